@@ -0,0 +1,66 @@
+package com.rhkr8521.mapping.api.member.jwt.service;
+
+import com.auth0.jwt.JWT;
+import com.auth0.jwt.algorithms.Algorithm;
+import com.auth0.jwt.interfaces.DecodedJWT;
+import com.rhkr8521.mapping.api.member.entity.Member;
+import com.rhkr8521.mapping.api.member.entity.Role;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 요청당 Access Token 인증 비용 벤치마크
+ * - 이전 방식: isTokenValid + extractEmail 에서 매번 알고리즘/검증기를 만들고 서명을 두 번 검증
+ * - 현재 방식: 재사용하는 검증기로 authenticate 한 번
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class JwtAuthenticationBenchmark {
+
+    private static final String SECRET_KEY = "benchmark-secret-key-benchmark-secret-key-benchmark-secret-key";
+
+    private JwtService jwtService;
+    private String accessToken;
+    private String forgedToken;
+
+    @Setup
+    public void setUp() {
+        jwtService = new JwtService(SECRET_KEY, 3_600_000L, 1_209_600_000L);
+        accessToken = jwtService.createAccessToken(Member.builder()
+                .id(1L)
+                .email("benchmark@socialUser.com")
+                .role(Role.USER)
+                .build());
+        forgedToken = accessToken.substring(0, accessToken.length() - 4) + "AAAA";
+    }
+
+    // 이전 방식 (검증기 생성 + 서명 검증 두 번)
+    @Benchmark
+    public String legacyValidateThenExtract() {
+        JWT.require(Algorithm.HMAC512(SECRET_KEY)).build().verify(accessToken);
+        return JWT.require(Algorithm.HMAC512(SECRET_KEY)).build().verify(accessToken).getSubject();
+    }
+
+    @Benchmark
+    public DecodedJWT authenticate() {
+        return jwtService.authenticate(accessToken).jwt();
+    }
+
+    // 서명이 맞지 않는 토큰 (실패 경로)
+    @Benchmark
+    public boolean legacyRejectForged() {
+        try {
+            JWT.require(Algorithm.HMAC512(SECRET_KEY)).build().verify(forgedToken);
+            return true;
+        } catch (Exception e) {
+            return false;
+        }
+    }
+
+    @Benchmark
+    public boolean authenticateForged() {
+        return jwtService.authenticate(forgedToken).isValid();
+    }
+}
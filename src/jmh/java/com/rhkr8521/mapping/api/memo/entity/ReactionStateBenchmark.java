@@ -0,0 +1,51 @@
+package com.rhkr8521.mapping.api.memo.entity;
+
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 반응 토글 상태 전이 벤치마크 (코얼레서/프로젝터가 탭마다 수행하는 계산)
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class ReactionStateBenchmark {
+
+    private static final int TAP_COUNT = 1024;
+
+    private ReactionAction[] taps;
+
+    @Setup
+    public void setUp() {
+        ReactionAction[] actions = ReactionAction.values();
+        taps = new ReactionAction[TAP_COUNT];
+        for (int i = 0; i < TAP_COUNT; i++) {
+            taps[i] = actions[ThreadLocalRandom.current().nextInt(actions.length)];
+        }
+    }
+
+    // 연속 탭을 하나의 최종 상태로 합치는 경우
+    @Benchmark
+    @OperationsPerInvocation(TAP_COUNT)
+    public ReactionState coalesceTaps() {
+        ReactionState state = ReactionState.NONE;
+        for (ReactionAction tap : taps) {
+            state = state.toggle(tap);
+        }
+        return state;
+    }
+
+    // 탭마다 SET 이벤트로 변환하는 경우
+    @Benchmark
+    @OperationsPerInvocation(TAP_COUNT)
+    public void toggleAndConvert(Blackhole blackhole) {
+        ReactionState state = ReactionState.NONE;
+        for (ReactionAction tap : taps) {
+            state = state.toggle(tap);
+            blackhole.consume(state.toSetAction());
+        }
+    }
+}
@@ -0,0 +1,72 @@
+package com.rhkr8521.mapping.api.memo.service;
+
+import com.rhkr8521.mapping.api.memo.dto.MemoListResponseDTO;
+import com.rhkr8521.mapping.api.memo.entity.Memo;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 메모 목록 DTO 변환과 거리 계산 벤치마크
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class MemoMappingBenchmark {
+
+    @Param({"0", "3"})
+    private int imageCount;
+
+    private Memo memo;
+    private List<Memo> memos;
+
+    @Setup
+    public void setUp() {
+        memo = createMemo(1L);
+        memos = new ArrayList<>();
+        for (long id = 1; id <= 100; id++) {
+            memos.add(createMemo(id));
+        }
+    }
+
+    @Benchmark
+    public MemoListResponseDTO convertToDTO() {
+        return MemoService.convertToDTO(memo);
+    }
+
+    // 목록 조회 한 번 분량 (100건)
+    @Benchmark
+    @OperationsPerInvocation(100)
+    public void convertList(Blackhole blackhole) {
+        for (Memo m : memos) {
+            blackhole.consume(MemoService.convertToDTO(m));
+        }
+    }
+
+    // 메모 작성 시 인증 여부 판단에 쓰는 거리 계산
+    @Benchmark
+    public double calculateDistance() {
+        return MemoService.calculateDistance(37.5665, 126.9780, 37.5651, 126.9895);
+    }
+
+    private Memo createMemo(long id) {
+        Memo created = Memo.builder()
+                .id(id)
+                .title("메모 " + id)
+                .content("벤치마크용 메모 내용입니다. ".repeat(10))
+                .category("일상")
+                .likeCnt(id * 3)
+                .hateCnt(id)
+                .build();
+
+        List<String> imageUrls = new ArrayList<>();
+        for (int i = 0; i < imageCount; i++) {
+            imageUrls.add("https://example.com/memo/" + id + "/" + i + ".jpg");
+        }
+        created.addImages(imageUrls);
+        return created;
+    }
+}
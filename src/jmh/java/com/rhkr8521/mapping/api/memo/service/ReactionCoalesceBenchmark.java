@@ -0,0 +1,47 @@
+package com.rhkr8521.mapping.api.memo.service;
+
+import com.rhkr8521.mapping.api.memo.entity.ReactionAction;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 코얼레서가 토글 묶음을 가장 짧은 액션 목록으로 줄이는 비용 벤치마크 (flush 시 묶음마다 수행)
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class ReactionCoalesceBenchmark {
+
+    private static final int BURST_COUNT = 256;
+
+    // 한 윈도우 안의 연속 탭 수
+    @Param({"1", "2", "5", "20"})
+    private int burstLength;
+
+    private List<List<ReactionAction>> bursts;
+    private int next;
+
+    @Setup
+    public void setUp() {
+        ReactionAction[] toggles = {ReactionAction.TOGGLE_LIKE, ReactionAction.TOGGLE_HATE};
+        bursts = new ArrayList<>(BURST_COUNT);
+        for (int i = 0; i < BURST_COUNT; i++) {
+            List<ReactionAction> burst = new ArrayList<>(burstLength);
+            for (int j = 0; j < burstLength; j++) {
+                burst.add(toggles[ThreadLocalRandom.current().nextInt(toggles.length)]);
+            }
+            bursts.add(List.copyOf(burst));
+        }
+    }
+
+    @Benchmark
+    public List<ReactionAction> reduceBurst() {
+        List<ReactionAction> burst = bursts.get(next);
+        next = (next + 1) % BURST_COUNT;
+        return MemoReactionCoalescer.reduce(burst);
+    }
+}
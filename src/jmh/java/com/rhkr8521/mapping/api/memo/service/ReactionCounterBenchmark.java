@@ -0,0 +1,60 @@
+package com.rhkr8521.mapping.api.memo.service;
+
+import org.openjdk.jmh.annotations.*;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 반응 카운터 집계 구조 벤치마크
+ * - MemoCounterService 의 메모별 1분 반응 윈도우 (인기 메모 하나에 몰리는 경우 / 여러 메모에 흩어지는 경우)
+ * - 같은 경합에서 LongAdder 를 썼을 때와 비교
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Threads(4)
+public class ReactionCounterBenchmark {
+
+    private static final int MEMO_COUNT = 10_000;
+
+    private MemoCounterService.ReactionWindow hotWindow;
+    private LongAdder hotAdder;
+    private Map<Long, MemoCounterService.ReactionWindow> windows;
+
+    @Setup(Level.Iteration)
+    public void setUp() {
+        hotWindow = new MemoCounterService.ReactionWindow();
+        hotAdder = new LongAdder();
+        windows = new ConcurrentHashMap<>();
+    }
+
+    // 인기 메모 하나에 반응이 몰리는 경우
+    @Benchmark
+    public long hotMemoWindow() {
+        return hotWindow.record(System.currentTimeMillis());
+    }
+
+    @Benchmark
+    public long hotMemoLongAdder() {
+        hotAdder.increment();
+        return hotAdder.sum();
+    }
+
+    // 여러 메모에 반응이 흩어지는 경우 (윈도우 조회/생성 포함)
+    @Benchmark
+    public long spreadMemoWindows() {
+        long memoId = ThreadLocalRandom.current().nextLong(MEMO_COUNT);
+        return windows.computeIfAbsent(memoId, id -> new MemoCounterService.ReactionWindow())
+                .record(System.currentTimeMillis());
+    }
+
+    // 샤딩 카운터 슬롯 선택 비용
+    @Benchmark
+    public int pickShardSlot() {
+        return MemoCounterService.pickSlot(16);
+    }
+}
@@ -4,20 +4,23 @@ import com.rhkr8521.mapping.api.comment.dto.CommentCreateDTO;
 import com.rhkr8521.mapping.api.comment.dto.CommentResponseDTO;
 import com.rhkr8521.mapping.api.comment.dto.CommentUpdateDTO;
 import com.rhkr8521.mapping.api.comment.service.CommentService;
-import com.rhkr8521.mapping.api.member.service.MemberService;
+import com.rhkr8521.mapping.api.member.jwt.principal.MemberPrincipal;
 import com.rhkr8521.mapping.common.exception.NotFoundException;
 import io.swagger.v3.oas.annotations.Operation;
 import com.rhkr8521.mapping.common.response.ApiResponse;
+import com.rhkr8521.mapping.common.response.ApiResponseStreamer;
+import com.rhkr8521.mapping.common.response.CursorPageResponseDTO;
 import com.rhkr8521.mapping.common.response.ErrorStatus;
 import com.rhkr8521.mapping.common.response.SuccessStatus;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.servlet.http.HttpServletRequest;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
-import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import java.util.List;
 
@@ -28,7 +31,7 @@ import java.util.List;
 public class CommentController {
 
     private final CommentService commentService;
-    private final MemberService memberService;
+    private final ApiResponseStreamer apiResponseStreamer;
 
     @Operation(
             summary = "댓글 작성 API",
@@ -41,7 +44,7 @@ public class CommentController {
     })
     @PostMapping("/new")
     public ResponseEntity<ApiResponse<Void>> createComment(
-            @AuthenticationPrincipal UserDetails userDetails,
+            @AuthenticationPrincipal MemberPrincipal principal,
             CommentCreateDTO commentCreateDTO,
             HttpServletRequest request
     ) {
@@ -56,7 +59,7 @@ public class CommentController {
             throw new NotFoundException(ErrorStatus.MISSING_COMMENT_MEMOID.getMessage());
         }
 
-        Long userId = memberService.getUserIdByEmail(userDetails.getUsername());
+        Long userId = principal.getId();
         commentService.createComment(commentCreateDTO, userId, request);
 
         return ApiResponse.success_only(SuccessStatus.CREATE_COMMENT_SUCCESS);
@@ -85,6 +88,52 @@ public class CommentController {
         return ApiResponse.success(SuccessStatus.SEND_COMMENT_IDS_SUCCESS, commentIds);
     }
 
+    @Operation(
+            summary = "댓글 목록 페이지 조회 API",
+            description = "메모에 달린 댓글을 최신순으로 페이지 단위 조회합니다. 응답의 nextCursor 를 다음 요청의 cursor 로 전달합니다."
+    )
+    @ApiResponses({
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "200", description = "댓글 목록 조회 성공"),
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "400", description = "메모 ID가 입력되지 않았습니다. / 잘못된 페이지 커서입니다."),
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "404", description = "메모를 찾을 수 없습니다.")
+    })
+    @GetMapping("/page")
+    public ResponseEntity<ApiResponse<CursorPageResponseDTO<CommentResponseDTO>>> getCommentPage(
+            @RequestParam Long memoId,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "20") int size
+    ) {
+        // 메모 ID 누락시 예외처리
+        if (memoId == null) {
+            throw new NotFoundException(ErrorStatus.MISSING_COMMENT_MEMOID.getMessage());
+        }
+
+        CursorPageResponseDTO<CommentResponseDTO> commentPage = commentService.getCommentPage(memoId, cursor, size);
+
+        return ApiResponse.success(SuccessStatus.SEND_COMMENT_PAGE_SUCCESS, commentPage);
+    }
+
+    @Operation(
+            summary = "댓글 전체 스트리밍 조회 API",
+            description = "메모에 달린 댓글 전체를 최신순으로 조회합니다. 응답 형태는 일반 API 와 같고, 서버에서 한 건씩 나누어 전송합니다."
+    )
+    @ApiResponses({
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "200", description = "댓글 목록 조회 성공"),
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "400", description = "메모 ID가 입력되지 않았습니다."),
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "404", description = "메모를 찾을 수 없습니다.")
+    })
+    @GetMapping(value = "/stream", produces = MediaType.APPLICATION_JSON_VALUE)
+    public ResponseEntity<StreamingResponseBody> streamComments(
+            @RequestParam Long memoId
+    ) {
+        // 메모 ID 누락시 예외처리
+        if (memoId == null) {
+            throw new NotFoundException(ErrorStatus.MISSING_COMMENT_MEMOID.getMessage());
+        }
+
+        return apiResponseStreamer.stream(SuccessStatus.SEND_COMMENT_PAGE_SUCCESS, commentService.openCommentStream(memoId));
+    }
+
     @Operation(
             summary = "댓글 상세 조회 API",
             description = "특정 댓글의 상세 정보를 조회합니다."
@@ -96,15 +145,14 @@ public class CommentController {
     })
     @GetMapping("/{commentId}")
     public ResponseEntity<ApiResponse<CommentResponseDTO>> getCommentDetail(
-            @PathVariable Long commentId,
-            @AuthenticationPrincipal UserDetails userDetails
+            @PathVariable Long commentId
     ) {
         // 댓글 ID 누락시 예외처리
         if (commentId == null) {
             throw new NotFoundException(ErrorStatus.MISSING_COMMENT_ID.getMessage());
         }
 
-        CommentResponseDTO commentDetail = commentService.getCommentDetail(commentId, userDetails);
+        CommentResponseDTO commentDetail = commentService.getCommentDetail(commentId);
 
         return ApiResponse.success(SuccessStatus.SEND_COMMENT_DETAIL_SUCCESS, commentDetail);
     }
@@ -122,7 +170,7 @@ public class CommentController {
     public ResponseEntity<ApiResponse<Void>> updateComment(
             @PathVariable Long commentId,
             @RequestBody CommentUpdateDTO commentUpdateDTO,
-            @AuthenticationPrincipal UserDetails userDetails,
+            @AuthenticationPrincipal MemberPrincipal principal,
             HttpServletRequest request
     ) {
         //댓글 ID 누락시 예외처리
@@ -135,7 +183,7 @@ public class CommentController {
             throw new NotFoundException(ErrorStatus.MISSING_COMMENT.getMessage());
         }
 
-        Long userId = memberService.getUserIdByEmail(userDetails.getUsername());
+        Long userId = principal.getId();
         commentService.updateComment(commentId, commentUpdateDTO, userId, request);
 
         return ApiResponse.success_only(SuccessStatus.MODIFY_COMMENT_SUCCESS);
@@ -153,7 +201,7 @@ public class CommentController {
     @DeleteMapping("/{commentId}")
     public ResponseEntity<ApiResponse<Void>> deleteComment(
             @PathVariable Long commentId,
-            @AuthenticationPrincipal UserDetails userDetails,
+            @AuthenticationPrincipal MemberPrincipal principal,
             HttpServletRequest request
     ) {
         //댓글 ID 누락시 예외처리
@@ -161,7 +209,7 @@ public class CommentController {
             throw new NotFoundException(ErrorStatus.MISSING_COMMENT_ID.getMessage());
         }
 
-        Long userId = memberService.getUserIdByEmail(userDetails.getUsername());
+        Long userId = principal.getId();
         commentService.deleteComment(commentId, userId, request);
 
         return ApiResponse.success_only(SuccessStatus.DELETE_COMMENT_SUCCESS);
@@ -178,9 +226,9 @@ public class CommentController {
     @PostMapping("/like/{commentId}")
     public ResponseEntity<ApiResponse<Void>> toggleLike(
             @PathVariable Long commentId,
-            @AuthenticationPrincipal UserDetails userDetails
+            @AuthenticationPrincipal MemberPrincipal principal
     ) {
-        Long userId = memberService.getUserIdByEmail(userDetails.getUsername());
+        Long userId = principal.getId();
         commentService.toggleLike(commentId, userId);
         return ApiResponse.success_only(SuccessStatus.TOGGLE_LIKE_SUCCESS);
     }
@@ -1,6 +1,7 @@
 package com.rhkr8521.mapping.api.comment.dto;
 
 import com.rhkr8521.mapping.api.comment.entity.Comment;
+import com.rhkr8521.mapping.api.member.cache.MemberProfile;
 import lombok.Builder;
 import lombok.Getter;
 
@@ -22,7 +23,26 @@ public class CommentResponseDTO {
     private boolean myLike;
     private boolean isBlind;
 
-    public static CommentResponseDTO fromEntity(Comment comment, boolean myLike) {
+    // 차단한 사용자의 댓글
+    public static CommentResponseDTO blocked(Comment comment) {
+        DateTimeFormatter dateTimeFormatter = DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm:ss");
+        return CommentResponseDTO.builder()
+                .id(comment.getId())
+                .writerId(comment.getMember().getId())
+                .comment("차단된 사용자 입니다.")
+                .rating(comment.getRating())
+                .likeCnt(comment.getLikeCnt())
+                .nickname("(알수없음)")
+                .profileImageUrl(null)
+                .updatedAt(comment.getCreatedAt().format(dateTimeFormatter))
+                .myLike(false)
+                .modify(comment.isModify())
+                .isBlind(true)
+                .build();
+    }
+
+    // 작성자 정보는 회원 프로필 캐시에서 전달받아 작성자 엔티티를 로딩하지 않음
+    public static CommentResponseDTO fromEntity(Comment comment, MemberProfile author, boolean myLike) {
         DateTimeFormatter dateTimeFormatter = DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm:ss");
 
         // 삭제된 댓글인 경우 처리
@@ -43,15 +63,14 @@ public class CommentResponseDTO {
         }
 
         // 삭제되지 않은 일반 댓글의 경우
-        String nickname = comment.getMember().isDeleted() ? "(알수없음)" : comment.getMember().getNickname();
         return CommentResponseDTO.builder()
                 .id(comment.getId())
                 .writerId(comment.getMember().getId())
                 .comment(comment.getComment())
                 .rating(comment.getRating())
                 .likeCnt(comment.getLikeCnt())
-                .nickname(nickname)
-                .profileImageUrl(comment.getMember().getImageUrl())
+                .nickname(author.displayNickname())
+                .profileImageUrl(author.imageUrl())
                 .updatedAt(comment.getCreatedAt().format(dateTimeFormatter))
                 .myLike(myLike)
                 .modify(comment.isModify())
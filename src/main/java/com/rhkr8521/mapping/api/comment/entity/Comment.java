@@ -11,7 +11,10 @@ import lombok.*;
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 @AllArgsConstructor(access = AccessLevel.PROTECTED)
 @Entity
-@Table(name = "comment")
+@Table(name = "comment", indexes = {
+        // 메모별 댓글 최신순 키셋 페이지 조회용
+        @Index(name = "idx_comment_memo_created", columnList = "memo_id, created_at, comment_id")
+})
 public class Comment extends BaseTimeEntity {
 
     @Id
@@ -2,11 +2,23 @@ package com.rhkr8521.mapping.api.comment.repository;
 
 import com.rhkr8521.mapping.api.comment.entity.CommentLike;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 public interface CommentLikeRepository extends JpaRepository<CommentLike, Long> {
     Optional<CommentLike> findByCommentIdAndMemberId(Long commentId, Long memberId);
     void deleteAllByCommentId(Long commentId);
 
+    // 주어진 댓글 중 사용자가 좋아요 누른 댓글 ID
+    @Query("select cl.comment.id from CommentLike cl where cl.member.id = :memberId and cl.comment.id in :commentIds")
+    List<Long> findLikedCommentIds(@Param("memberId") Long memberId, @Param("commentIds") Collection<Long> commentIds);
+
+    // 메모의 댓글 중 사용자가 좋아요 누른 댓글 ID
+    @Query("select cl.comment.id from CommentLike cl where cl.member.id = :memberId and cl.comment.memo.id = :memoId")
+    List<Long> findLikedCommentIdsByMemoId(@Param("memberId") Long memberId, @Param("memoId") Long memoId);
+
 }
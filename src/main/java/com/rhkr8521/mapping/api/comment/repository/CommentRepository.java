@@ -1,24 +1,38 @@
 package com.rhkr8521.mapping.api.comment.repository;
 
 import com.rhkr8521.mapping.api.comment.entity.Comment;
-import com.rhkr8521.mapping.api.memo.entity.Memo;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
+import java.time.LocalDateTime;
 import java.util.List;
 
 public interface CommentRepository extends JpaRepository<Comment, Long> {
-    List<Comment> findByMemoOrderByCreatedAtDesc(Memo memo);
+    // 메모의 댓글 ID 목록 (최신순, 메모 엔티티 로딩 없이 인덱스만으로 조회)
+    @Query("select c.id from Comment c where c.memo.id = :memoId order by c.createdAt desc, c.id desc")
+    List<Long> findIdsByMemoIdOrderByCreatedAtDesc(@Param("memoId") Long memoId);
 
     List<Comment> findByMemoId(Long memoId);  // 특정 메모의 댓글 찾기
-    void deleteAllByMemoId(Long memoId);
 
-    @Query("SELECT DISTINCT c.memo FROM Comment c " +
-            "WHERE c.member.id = :userId AND c.memo.isDeleted = false " +
-            "ORDER BY c.memo.createdAt DESC")
-    List<Memo> findDistinctMemoByMemberId(@Param("userId") Long userId);
+    // 댓글 첫 페이지 조회 (최신순, 작성자 정보는 회원 프로필 캐시 사용)
+    @Query("select c from Comment c " +
+            "where c.memo.id = :memoId " +
+            "order by c.createdAt desc, c.id desc")
+    List<Comment> findFirstPageByMemoId(@Param("memoId") Long memoId, Pageable pageable);
+
+    // 댓글 다음 페이지 조회 (커서 (createdAt, id) 이후부터 최신순)
+    @Query("select c from Comment c " +
+            "where c.memo.id = :memoId " +
+            "and (c.createdAt < :createdAt or (c.createdAt = :createdAt and c.id < :commentId)) " +
+            "order by c.createdAt desc, c.id desc")
+    List<Comment> findPageByMemoIdAfter(@Param("memoId") Long memoId,
+                                        @Param("createdAt") LocalDateTime createdAt,
+                                        @Param("commentId") Long commentId,
+                                        Pageable pageable);
+    void deleteAllByMemoId(Long memoId);
 
     // 좋아요 수 증가
     @Modifying
@@ -32,4 +46,6 @@ public interface CommentRepository extends JpaRepository<Comment, Long> {
 
     List<Comment> findByMemberId(Long memberId);
 
+    boolean existsByMemoIdAndMemberIdAndIsDeletedFalse(Long memoId, Long memberId);
+
 }
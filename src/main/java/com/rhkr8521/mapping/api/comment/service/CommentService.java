@@ -7,40 +7,54 @@ import com.rhkr8521.mapping.api.comment.entity.Comment;
 import com.rhkr8521.mapping.api.comment.entity.CommentLike;
 import com.rhkr8521.mapping.api.comment.repository.CommentLikeRepository;
 import com.rhkr8521.mapping.api.comment.repository.CommentRepository;
+import com.rhkr8521.mapping.api.member.cache.MemberProfile;
+import com.rhkr8521.mapping.api.member.cache.MemberProfileCache;
 import com.rhkr8521.mapping.api.member.entity.Member;
-import com.rhkr8521.mapping.api.member.repository.MemberBlockRepository;
 import com.rhkr8521.mapping.api.member.repository.MemberRepository;
-import com.rhkr8521.mapping.api.member.service.MemberService;
+import com.rhkr8521.mapping.api.memo.entity.MemberActivityType;
 import com.rhkr8521.mapping.api.memo.entity.Memo;
 import com.rhkr8521.mapping.api.memo.repository.MemoRepository;
+import com.rhkr8521.mapping.api.memo.service.MemberActivityService;
 import com.rhkr8521.mapping.api.watchdog.dto.ProfanityResponseDTO;
 import com.rhkr8521.mapping.api.watchdog.service.ProfanityDetectionService;
+import com.rhkr8521.mapping.common.context.ViewerContext;
 import com.rhkr8521.mapping.common.exception.NotFoundException;
 import com.rhkr8521.mapping.common.exception.UnauthorizedException;
+import com.rhkr8521.mapping.common.response.CursorPageResponseDTO;
+import com.rhkr8521.mapping.common.util.KeysetCursor;
+import com.rhkr8521.mapping.common.util.LongHashSet;
 import com.rhkr8521.mapping.common.response.ErrorStatus;
 import jakarta.servlet.http.HttpServletRequest;
 import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.security.core.userdetails.User;
-import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
-import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.function.Supplier;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 @Service
 @RequiredArgsConstructor
 public class CommentService {
 
+    private static final int MAX_COMMENT_PAGE_SIZE = 100;
+    // 스트리밍 조회 시 한 번에 읽는 묶음 크기
+    private static final int STREAM_CHUNK_SIZE = 100;
+
     private final CommentRepository commentRepository;
     private final CommentLikeRepository commentLikeRepository;
     private final MemoRepository memoRepository;
     private final MemberRepository memberRepository;
-    private final MemberService memberService;
-    private final MemberBlockRepository memberBlockRepository;
     private final ProfanityDetectionService profanityDetectionService;
+    private final MemberActivityService memberActivityService;
+    private final ViewerContext viewerContext;
+    private final MemberProfileCache memberProfileCache;
 
     // 클라이언트 IP 추출 메소드
     private String extractClientIp(HttpServletRequest request) {
@@ -87,62 +101,130 @@ public class CommentService {
                 .build();
 
         commentRepository.save(comment);
+
+        // 메모 댓글 수/별점 집계 반영
+        adjustMemoCommentStats(memo.getId(), 1, 0, comment.getRating());
+
+        // 내 활동(댓글 작성한 메모) 기록
+        memberActivityService.record(userId, MemberActivityType.COMMENTED, memo.getId(), comment.getCreatedAt());
     }
 
     // 댓글 ID 목록 조회 (createdAt 기준 내림차순 정렬)
     @Transactional(readOnly = true)
     public List<Long> getCommentIdsByMemoId(Long memoId) {
-        Memo memo = memoRepository.findById(memoId)
-                .orElseThrow(() -> new NotFoundException(ErrorStatus.MEMO_NOTFOUND_EXCEPTION.getMessage()));
-
-        // createdAt 기준으로 내림차순 정렬된 댓글 목록 조회
-        List<Comment> comments = commentRepository.findByMemoOrderByCreatedAtDesc(memo);
+        if (!memoRepository.existsById(memoId)) {
+            throw new NotFoundException(ErrorStatus.MEMO_NOTFOUND_EXCEPTION.getMessage());
+        }
 
-        return comments.stream()
-                .map(Comment::getId)
-                .collect(Collectors.toList());
+        // createdAt 기준으로 내림차순 정렬된 댓글 ID 목록 조회
+        return commentRepository.findIdsByMemoIdOrderByCreatedAtDesc(memoId);
     }
 
     // 댓글 상세 조회
     @Transactional(readOnly = true)
-    public CommentResponseDTO getCommentDetail(Long commentId, UserDetails userDetails) {
+    public CommentResponseDTO getCommentDetail(Long commentId) {
         Comment comment = commentRepository.findById(commentId)
                 .orElseThrow(() -> new NotFoundException(ErrorStatus.COMMENT_NOTFOUND_EXCEPTION.getMessage()));
 
-        Long userId = null;
-        if (userDetails != null) {
-            userId = memberService.getUserIdByEmail(userDetails.getUsername());
+        // 차단 여부 검사 (양방향)
+        if (viewerContext.isHidden(comment.getMember().getId())) {
+            return CommentResponseDTO.blocked(comment);
         }
 
-        // 차단 여부 검사
+        Long userId = viewerContext.getUserId();
+        boolean myLike = false;
         if (userId != null) {
-            Member currentUser = memberRepository.findById(userId)
-                    .orElseThrow(() -> new NotFoundException(ErrorStatus.USER_NOTFOUND_EXCEPTION.getMessage()));
-
-            if (memberBlockRepository.existsByBlockerAndBlocked(currentUser, comment.getMember())) {
-                DateTimeFormatter dateTimeFormatter = DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm:ss");
-                return CommentResponseDTO.builder()
-                        .id(comment.getId())
-                        .writerId(comment.getMember().getId())
-                        .comment("차단된 사용자 입니다.")
-                        .rating(comment.getRating())
-                        .likeCnt(comment.getLikeCnt())
-                        .nickname("(알수없음)")
-                        .profileImageUrl(null)
-                        .updatedAt(comment.getCreatedAt().format(dateTimeFormatter))
-                        .myLike(false)
-                        .modify(comment.isModify())
-                        .isBlind(true)
-                        .build();
+            myLike = commentLikeRepository.findByCommentIdAndMemberId(commentId, userId).isPresent();
+        }
+
+        return CommentResponseDTO.fromEntity(comment, memberProfileCache.get(comment.getMember().getId()), myLike);
+    }
+
+    // 댓글 페이지 조회 (댓글 1회, 내 좋아요 1회 조회, 작성자 정보와 차단 목록은 캐시 사용)
+    @Transactional(readOnly = true)
+    public CursorPageResponseDTO<CommentResponseDTO> getCommentPage(Long memoId, String cursor, int size) {
+        if (!memoRepository.existsById(memoId)) {
+            throw new NotFoundException(ErrorStatus.MEMO_NOTFOUND_EXCEPTION.getMessage());
+        }
+
+        int pageSize = Math.max(1, Math.min(size, MAX_COMMENT_PAGE_SIZE));
+
+        // 다음 페이지 존재 여부 확인을 위해 1건 더 조회 (memo_id, created_at, comment_id 인덱스 키셋 조회)
+        KeysetCursor after = KeysetCursor.decode(cursor);
+        PageRequest limit = PageRequest.of(0, pageSize + 1);
+        List<Comment> comments = after == null
+                ? commentRepository.findFirstPageByMemoId(memoId, limit)
+                : commentRepository.findPageByMemoIdAfter(memoId, after.time(), after.id(), limit);
+        boolean hasNext = comments.size() > pageSize;
+        if (hasNext) {
+            comments = comments.subList(0, pageSize);
+        }
+
+        LongHashSet likedIds = new LongHashSet();
+        Long userId = viewerContext.getUserId();
+        if (userId != null && !comments.isEmpty()) {
+            List<Long> commentIds = comments.stream().map(Comment::getId).toList();
+            likedIds = LongHashSet.of(commentLikeRepository.findLikedCommentIds(userId, commentIds));
+        }
+
+        Map<Long, MemberProfile> authors = memberProfileCache.getAll(
+                comments.stream().map(comment -> comment.getMember().getId()).collect(Collectors.toSet()));
+
+        List<CommentResponseDTO> content = new ArrayList<>(comments.size());
+        for (Comment comment : comments) {
+            if (viewerContext.isHidden(comment.getMember().getId())) {
+                content.add(CommentResponseDTO.blocked(comment));
+            } else {
+                content.add(CommentResponseDTO.fromEntity(comment,
+                        authors.get(comment.getMember().getId()), likedIds.contains(comment.getId())));
             }
         }
 
-        boolean myLike = false;
-        if (userId != null) {
-            myLike = commentLikeRepository.findByCommentIdAndMemberId(commentId, userId).isPresent();
+        String nextCursor = null;
+        if (hasNext) {
+            Comment last = comments.get(comments.size() - 1);
+            nextCursor = new KeysetCursor(last.getCreatedAt(), last.getId()).encode();
+        }
+        return new CursorPageResponseDTO<>(content, nextCursor, hasNext);
+    }
+
+    // 댓글 전체 스트리밍 조회 준비
+    // - 메모 존재 여부와 조회자 정보(좋아요, 차단 목록)는 요청 스레드에서 미리 확정하고,
+    //   댓글 스트림은 ApiResponseStreamer 의 읽기 전용 트랜잭션 안에서 열림
+    @Transactional(readOnly = true)
+    public Supplier<Stream<CommentResponseDTO>> openCommentStream(Long memoId) {
+        if (!memoRepository.existsById(memoId)) {
+            throw new NotFoundException(ErrorStatus.MEMO_NOTFOUND_EXCEPTION.getMessage());
         }
 
-        return CommentResponseDTO.fromEntity(comment, myLike);
+        Long userId = viewerContext.getUserId();
+        LongHashSet blockedIds = viewerContext.getBlockedIds();
+        LongHashSet blockerIds = viewerContext.getBlockerIds();
+        LongHashSet likedIds = userId == null
+                ? new LongHashSet()
+                : LongHashSet.of(commentLikeRepository.findLikedCommentIdsByMemoId(userId, memoId));
+
+        // 결과 집합을 열어 두지 않고 키셋 묶음 단위로 조회하며, 작성자 정보는 묶음마다 한 번에 조회
+        PageRequest chunk = PageRequest.of(0, STREAM_CHUNK_SIZE);
+        return () -> Stream.iterate(
+                        commentRepository.findFirstPageByMemoId(memoId, chunk),
+                        comments -> !comments.isEmpty(),
+                        comments -> {
+                            Comment last = comments.get(comments.size() - 1);
+                            return commentRepository.findPageByMemoIdAfter(memoId, last.getCreatedAt(), last.getId(), chunk);
+                        })
+                .flatMap(comments -> {
+                    Map<Long, MemberProfile> authors = memberProfileCache.getAll(
+                            comments.stream().map(comment -> comment.getMember().getId()).collect(Collectors.toSet()));
+                    return comments.stream()
+                            .map(comment -> blockedIds.contains(comment.getMember().getId())
+                                    || blockerIds.contains(comment.getMember().getId())
+                                    ? CommentResponseDTO.blocked(comment)
+                                    : CommentResponseDTO.fromEntity(comment,
+                                            authors.get(comment.getMember().getId()), likedIds.contains(comment.getId())))
+                            .toList()
+                            .stream();
+                });
     }
 
     // 댓글 수정
@@ -167,6 +249,8 @@ public class CommentService {
         // 댓글 내용에 대해 비속어 검증
         ProfanityResponseDTO commentResponse = profanityDetectionService.checkTextAndSave(member, commentUpdateDTO.getComment());
 
+        int previousRating = comment.getRating();
+
         comment = comment.toBuilder()
                 .comment(commentResponse.getCensoredText())
                 .rating(commentUpdateDTO.getRating())
@@ -175,6 +259,11 @@ public class CommentService {
                 .build();
 
         commentRepository.save(comment);
+
+        // 별점이 바뀐 경우 메모 별점 집계 반영 (삭제된 댓글은 집계에서 이미 빠져 있음)
+        if (!comment.isDeleted()) {
+            adjustMemoCommentStats(comment.getMemo().getId(), 0, previousRating, comment.getRating());
+        }
     }
 
     // 댓글 삭제(하드삭제)
@@ -210,12 +299,20 @@ public class CommentService {
         // 접속 IP 추출
         String clientIp = extractClientIp(request);
 
+        boolean alreadyDeleted = comment.isDeleted();
+
         comment = comment.toBuilder()
                 .isDeleted(true)
                 .lastModifyIp(clientIp)
                 .build();
 
         commentRepository.save(comment);
+
+        // 메모 댓글 수/별점 집계 반영 (중복 삭제 요청은 한 번만 반영)
+        if (!alreadyDeleted) {
+            adjustMemoCommentStats(comment.getMemo().getId(), -1, comment.getRating(), 0);
+            memberActivityService.removeCommentedIfNone(userId, comment.getMemo().getId());
+        }
     }
 
     // 좋아요 토글
@@ -246,4 +343,14 @@ public class CommentService {
         }
     }
 
+    // 메모 댓글 수/별점 집계 증감 (별점 0은 미평가로 보고 집계하지 않음)
+    private void adjustMemoCommentStats(Long memoId, long commentDelta, int removedRating, int addedRating) {
+        long ratingSumDelta = Math.max(addedRating, 0) - Math.max(removedRating, 0);
+        long ratingCountDelta = (addedRating > 0 ? 1 : 0) - (removedRating > 0 ? 1 : 0);
+        if (commentDelta == 0 && ratingSumDelta == 0 && ratingCountDelta == 0) {
+            return;
+        }
+        memoRepository.adjustCommentStats(memoId, commentDelta, ratingSumDelta, ratingCountDelta);
+    }
+
 }
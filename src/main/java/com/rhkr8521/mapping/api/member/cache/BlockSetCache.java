@@ -0,0 +1,75 @@
+package com.rhkr8521.mapping.api.member.cache;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.LoadingCache;
+import com.rhkr8521.mapping.api.member.repository.MemberBlockRepository;
+import com.rhkr8521.mapping.common.util.LongHashSet;
+import com.rhkr8521.mapping.common.util.TransactionUtils;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+/**
+ * 사용자별 차단 목록 캐시
+ * - 정방향(내가 차단한 사용자)과 역방향(나를 차단한 사용자) 셋을 각각 보관
+ * - 사용자 ID 만 조회하는 쿼리 한 번으로 LongHashSet 을 만들어 보관
+ * - 캐시된 셋은 여러 요청이 공유하므로 꺼내 쓰는 쪽에서 수정하지 않음
+ * - 차단/차단 해제 시 트랜잭션 커밋 이후 무효화 (이 인스턴스만 해당)
+ * - 다른 인스턴스에서 바뀐 차단 관계는 짧은 만료 시간이 지나면 반영
+ */
+@Component
+public class BlockSetCache {
+
+    private final MemberBlockRepository memberBlockRepository;
+    private final LoadingCache<Long, LongHashSet> blockedSets;
+    private final LoadingCache<Long, LongHashSet> blockerSets;
+
+    public BlockSetCache(MemberBlockRepository memberBlockRepository,
+                         @Value("${member.block.cache.max-size:10000}") long maxSize,
+                         @Value("${member.block.cache.ttl-seconds:10}") long ttlSeconds) {
+        this.memberBlockRepository = memberBlockRepository;
+        this.blockedSets = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterWrite(Duration.ofSeconds(ttlSeconds))
+                .build(this::loadBlockedIds);
+        this.blockerSets = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterWrite(Duration.ofSeconds(ttlSeconds))
+                .build(this::loadBlockerIds);
+    }
+
+    // blockerId 가 차단한 사용자 ID 셋
+    public LongHashSet getBlockedIds(Long blockerId) {
+        return blockedSets.get(blockerId);
+    }
+
+    // blockedId 를 차단한 사용자 ID 셋
+    public LongHashSet getBlockerIds(Long blockedId) {
+        return blockerSets.get(blockedId);
+    }
+
+    // 차단 관계가 바뀐 두 사용자의 캐시 무효화 (트랜잭션 안이면 커밋 이후)
+    public void evict(Long blockerId, Long blockedId) {
+        TransactionUtils.runAfterCommit(() -> {
+            blockedSets.invalidate(blockerId);
+            blockerSets.invalidate(blockedId);
+        });
+    }
+
+    // 전체 무효화 (회원 데이터 일괄 삭제 시)
+    public void evictAll() {
+        TransactionUtils.runAfterCommit(() -> {
+            blockedSets.invalidateAll();
+            blockerSets.invalidateAll();
+        });
+    }
+
+    private LongHashSet loadBlockedIds(Long blockerId) {
+        return LongHashSet.of(memberBlockRepository.findBlockedIdsByBlockerId(blockerId));
+    }
+
+    private LongHashSet loadBlockerIds(Long blockedId) {
+        return LongHashSet.of(memberBlockRepository.findBlockerIdsByBlockedId(blockedId));
+    }
+}
@@ -0,0 +1,19 @@
+package com.rhkr8521.mapping.api.member.cache;
+
+/**
+ * 작성자 표시에 필요한 회원 정보 (닉네임, 프로필 이미지, 탈퇴 여부)
+ */
+public record MemberProfile(Long id, String nickname, String imageUrl, boolean deleted) {
+
+    public static final String UNKNOWN_NICKNAME = "(알수없음)";
+
+    // 존재하지 않는 회원
+    public static MemberProfile unknown(Long id) {
+        return new MemberProfile(id, null, null, true);
+    }
+
+    // 탈퇴한 회원은 닉네임을 가려서 표시
+    public String displayNickname() {
+        return deleted ? UNKNOWN_NICKNAME : nickname;
+    }
+}
@@ -0,0 +1,66 @@
+package com.rhkr8521.mapping.api.member.cache;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.rhkr8521.mapping.api.member.repository.MemberRepository;
+import com.rhkr8521.mapping.common.util.TransactionUtils;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * 회원 ID 별 작성자 표시 정보 캐시
+ * - 메모/댓글 응답에서 작성자 회원 엔티티를 로딩하지 않도록 사용
+ * - 캐시에 없는 회원은 IN 쿼리 한 번으로 함께 조회
+ * - 존재하지 않는 회원은 캐시하지 않고 알수없음으로 반환 (가입 전에 조회된 ID 가 가입 후에도 알수없음으로 남지 않도록)
+ * - 닉네임/프로필 이미지 변경, 탈퇴, 복구, 영구 삭제 시 커밋 이후 무효화
+ */
+@Component
+public class MemberProfileCache {
+
+    private final MemberRepository memberRepository;
+    private final Cache<Long, MemberProfile> profiles;
+
+    public MemberProfileCache(MemberRepository memberRepository,
+                              @Value("${member.profile.cache.max-size:50000}") long maxSize,
+                              @Value("${member.profile.cache.ttl-minutes:10}") long ttlMinutes) {
+        this.memberRepository = memberRepository;
+        this.profiles = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterWrite(Duration.ofMinutes(ttlMinutes))
+                .build();
+    }
+
+    public MemberProfile get(Long userId) {
+        MemberProfile profile = profiles.get(userId, id -> loadProfiles(Set.of(id)).get(id));
+        return profile != null ? profile : MemberProfile.unknown(userId);
+    }
+
+    public Map<Long, MemberProfile> getAll(Collection<Long> userIds) {
+        Map<Long, MemberProfile> found = new HashMap<>(profiles.getAll(userIds, this::loadProfiles));
+        for (Long userId : userIds) {
+            found.putIfAbsent(userId, MemberProfile.unknown(userId));
+        }
+        return found;
+    }
+
+    // 회원 정보가 바뀐 경우 무효화 (트랜잭션 안이면 커밋 이후)
+    public void evict(Long userId) {
+        TransactionUtils.runAfterCommit(() -> profiles.invalidate(userId));
+    }
+
+    // 존재하는 회원만 반환 (없는 회원은 캐시에 넣지 않음)
+    private Map<Long, MemberProfile> loadProfiles(Set<? extends Long> userIds) {
+        Map<Long, MemberProfile> loaded = new HashMap<>();
+        for (MemberProfile profile : memberRepository.findProfilesByIdIn(List.copyOf(userIds))) {
+            loaded.put(profile.id(), profile);
+        }
+        return loaded;
+    }
+}
@@ -1,7 +1,9 @@
 package com.rhkr8521.mapping.api.member.controller;
 
 import com.rhkr8521.mapping.api.member.dto.*;
-import com.rhkr8521.mapping.api.member.jwt.service.JwtService;
+import com.rhkr8521.mapping.api.member.jwt.principal.MemberPrincipal;
+import com.rhkr8521.mapping.api.member.jwt.service.AccessTokenRevocationService;
+import com.rhkr8521.mapping.api.member.jwt.service.RefreshTokenService;
 import com.rhkr8521.mapping.api.member.service.MemberService;
 import com.rhkr8521.mapping.api.member.service.KakaoService;
 import com.rhkr8521.mapping.common.exception.BadRequestException;
@@ -13,11 +15,12 @@ import io.swagger.v3.oas.annotations.Hidden;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.servlet.http.HttpServletResponse;
 import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
-import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.web.bind.annotation.*;
 import org.springframework.web.multipart.MultipartFile;
 
@@ -33,7 +36,14 @@ public class MemberController {
 
     private final MemberService memberService;
     private final KakaoService oauthService;
-    private final JwtService jwtService;
+    private final RefreshTokenService refreshTokenService;
+    private final AccessTokenRevocationService accessTokenRevocationService;
+
+    @Value("${jwt.access.header}")
+    private String accessTokenHeader;
+
+    @Value("${jwt.refresh.header}")
+    private String refreshTokenHeader;
 
     @Hidden
     @Operation(
@@ -125,16 +135,19 @@ public class MemberController {
             @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "401", description = "유효하지 않은 리프레시 토큰입니다."),
     })
     @GetMapping("/token-reissue")
-    public ResponseEntity<ApiResponse<Void>> reissueToken(@RequestHeader(value = "Authorization-Refresh", required = false) String refreshToken) {
+    public ResponseEntity<ApiResponse<Void>> reissueToken(@RequestHeader(value = "Authorization-Refresh", required = false) String refreshToken,
+                                                          HttpServletResponse response) {
         // 리프레시 토큰이 입력되지 않았을 경우 예외 처리
-        if (refreshToken == null || refreshToken.isEmpty()) {
+        if (refreshToken == null || !refreshToken.startsWith("Bearer ")) {
             throw new BadRequestException(ErrorStatus.MISSING_REFRESHTOKEN.getMessage());
         }
 
-        // 리프레시 토큰의 유효성을 검사
-        if (!jwtService.isTokenValid(refreshToken.substring(7))) {
-            throw new BadRequestException(ErrorStatus.INVALID_REFRESHTOKEN_EXCEPTION.getMessage()); // 유효하지 않은 토큰에 대한 예외 처리
-        }
+        // 리프레시 토큰 검증 후 회전 (이미 사용된 토큰이면 같은 로그인의 토큰 전체 폐기)
+        Map<String, String> tokens = refreshTokenService.rotate(refreshToken.substring(7));
+
+        // 새로운 Access Token과 Refresh Token을 헤더로 설정
+        response.setHeader(accessTokenHeader, "Bearer " + tokens.get("accessToken"));
+        response.setHeader(refreshTokenHeader, "Bearer " + tokens.get("refreshToken"));
 
         return ApiResponse.success_only(SuccessStatus.SEND_REISSUE_TOKEN_SUCCESS);
     }
@@ -148,9 +161,9 @@ public class MemberController {
             @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "400", description = "닉네임이 입려되지 않았습니다."),
     })
     @PatchMapping("/modify-nickname")
-    public ResponseEntity<ApiResponse<Void>> changeNickname(@AuthenticationPrincipal UserDetails userDetails,
+    public ResponseEntity<ApiResponse<Void>> changeNickname(@AuthenticationPrincipal MemberPrincipal principal,
                                                             @RequestParam("nickname") String nickname) {
-        Long userId = memberService.getUserIdByEmail(userDetails.getUsername());
+        Long userId = principal.getId();
 
         // 닉네임이 입력되지 않았을 경우 예외 처리
         if (nickname == null || nickname.isEmpty()) {
@@ -171,9 +184,9 @@ public class MemberController {
             @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "500", description = "프로필 사진이 변경되지 않았습니다.")
     })
     @PatchMapping(value = "/modify-profile-image", consumes = MediaType.MULTIPART_FORM_DATA_VALUE)
-    public ResponseEntity<ApiResponse<Void>> changeProfileImage(@AuthenticationPrincipal UserDetails userDetails,
+    public ResponseEntity<ApiResponse<Void>> changeProfileImage(@AuthenticationPrincipal MemberPrincipal principal,
                                                                 @RequestParam("image") MultipartFile image) {
-        Long userId = memberService.getUserIdByEmail(userDetails.getUsername());
+        Long userId = principal.getId();
 
         // 이미지 파일 검증
         if (image != null && !image.isEmpty()) {
@@ -201,12 +214,44 @@ public class MemberController {
             @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "404", description = "해당 유저를 찾을 수 없습니다.")
     })
     @GetMapping("/user-info")
-    public ResponseEntity<ApiResponse<UserInfoResponseDTO>> getUserInfo(@AuthenticationPrincipal UserDetails userDetails) {
-        Long userId = memberService.getUserIdByEmail(userDetails.getUsername());
+    public ResponseEntity<ApiResponse<UserInfoResponseDTO>> getUserInfo(@AuthenticationPrincipal MemberPrincipal principal) {
+        Long userId = principal.getId();
         UserInfoResponseDTO userInfo = memberService.getUserInfo(userId);
         return ApiResponse.success(SuccessStatus.GET_USERINFO_SUCCESS, userInfo);
     }
 
+    @Operation(
+            summary = "사용자 프로필 일괄 조회 API",
+            description = "여러 사용자의 공개 프로필(닉네임, 프로필 이미지)을 한 번에 조회합니다. 탈퇴한 사용자는 (알수없음)으로 표시됩니다."
+    )
+    @ApiResponses({
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "200", description = "사용자 프로필 목록 조회 성공"),
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "400", description = "조회할 사용자 ID가 입력되지 않았거나 한 번에 조회할 수 있는 사용자 수를 초과했습니다.")
+    })
+    @GetMapping("/profiles")
+    public ResponseEntity<ApiResponse<List<UserProfileResponseDTO>>> getUserProfiles(@RequestParam(value = "userIds", required = false) List<Long> userIds) {
+        List<UserProfileResponseDTO> profiles = memberService.getUserProfiles(userIds);
+        return ApiResponse.success(SuccessStatus.GET_USER_PROFILES_SUCCESS, profiles);
+    }
+
+    @Operation(
+            summary = "로그아웃 API",
+            description = "현재 Access Token 을 만료 전에 폐기합니다. 리프레시 토큰을 헤더(Authorization-Refresh)로 함께 보내면 해당 로그인의 리프레시 토큰도 폐기합니다."
+    )
+    @ApiResponses({
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "200", description = "로그아웃 성공"),
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "401", description = "인증되지 않은 사용자입니다.")
+    })
+    @PostMapping("/logout")
+    public ResponseEntity<ApiResponse<Void>> logout(@AuthenticationPrincipal MemberPrincipal principal,
+                                                    @RequestHeader(value = "Authorization-Refresh", required = false) String refreshToken) {
+        accessTokenRevocationService.revoke(principal);
+        if (refreshToken != null && refreshToken.startsWith("Bearer ")) {
+            refreshTokenService.revoke(refreshToken.substring(7));
+        }
+        return ApiResponse.success_only(SuccessStatus.LOGOUT_SUCCESS);
+    }
+
     @Operation(
             summary = "회원 탈퇴 API",
             description = "로그인한 사용자의 계정을 논리적 삭제 처리합니다. (기존 작성된 메모, 댓글 등은 유지됩니다.)"
@@ -217,9 +262,11 @@ public class MemberController {
             @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "400", description = "이미 탈퇴한 회원입니다.")
     })
     @DeleteMapping("/withdraw")
-    public ResponseEntity<ApiResponse<Void>> withdrawMember(@AuthenticationPrincipal UserDetails userDetails) {
-        Long userId = memberService.getUserIdByEmail(userDetails.getUsername());
+    public ResponseEntity<ApiResponse<Void>> withdrawMember(@AuthenticationPrincipal MemberPrincipal principal) {
+        Long userId = principal.getId();
         memberService.withdrawMember(userId);
+        // 현재 Access Token 즉시 폐기 (다른 토큰은 탈퇴 회원 확인으로 차단)
+        accessTokenRevocationService.revoke(principal);
         return ApiResponse.success_only(SuccessStatus.DELETE_MEMBER_SUCCESS);
     }
 
@@ -232,9 +279,9 @@ public class MemberController {
             @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "404", description = "해당 유저를 찾을 수 없습니다."),
     })
     @PostMapping("/block")
-    public ResponseEntity<ApiResponse<Void>> blockUser(@AuthenticationPrincipal UserDetails userDetails,
+    public ResponseEntity<ApiResponse<Void>> blockUser(@AuthenticationPrincipal MemberPrincipal principal,
                                                        @RequestParam("userId") Long userId) {
-        Long blockerId = memberService.getUserIdByEmail(userDetails.getUsername());
+        Long blockerId = principal.getId();
         memberService.blockUser(blockerId, userId);
         return ApiResponse.success_only(SuccessStatus.BLOCK_USER_SUCCESS);
     }
@@ -248,8 +295,8 @@ public class MemberController {
             @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "404", description = "해당 유저를 찾을 수 없습니다."),
     })
     @GetMapping("/block/list")
-    public ResponseEntity<ApiResponse<List<BlockedUserResponseDTO>>> getBlockedUsers(@AuthenticationPrincipal UserDetails userDetails) {
-        Long blockerId = memberService.getUserIdByEmail(userDetails.getUsername());
+    public ResponseEntity<ApiResponse<List<BlockedUserResponseDTO>>> getBlockedUsers(@AuthenticationPrincipal MemberPrincipal principal) {
+        Long blockerId = principal.getId();
         List<BlockedUserResponseDTO> response = memberService.getBlockedUserResponseList(blockerId);
         return ApiResponse.success(SuccessStatus.SEND_BLOCK_LIST_SUCCESS, response);
     }
@@ -263,9 +310,9 @@ public class MemberController {
             @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "404", description = "해당 유저를 찾을 수 없습니다."),
     })
     @DeleteMapping("/block/{userId}")
-    public ResponseEntity<ApiResponse<Void>> unblockUser(@AuthenticationPrincipal UserDetails userDetails,
+    public ResponseEntity<ApiResponse<Void>> unblockUser(@AuthenticationPrincipal MemberPrincipal principal,
                                                          @PathVariable Long userId) {
-        Long blockerId = memberService.getUserIdByEmail(userDetails.getUsername());
+        Long blockerId = principal.getId();
         memberService.unblockUser(blockerId, userId);
         return ApiResponse.success_only(SuccessStatus.UNBLOCK_USER_SUCCESS);
     }
@@ -11,6 +11,7 @@ import lombok.Getter;
 public class GoogleTokenResponseDTO {
     private final String access_token;
     private final String refresh_token;
+    private final String id_token;
 
     @JsonPOJOBuilder(withPrefix = "")
     public static class GoogleTokenResponseDTOBuilder { }
@@ -0,0 +1,26 @@
+package com.rhkr8521.mapping.api.member.dto;
+
+import com.rhkr8521.mapping.api.member.cache.MemberProfile;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class UserProfileResponseDTO {
+    private Long userId;
+    private String nickname;
+    private String profileImage;
+
+    // 탈퇴한 회원은 닉네임을 가려서 반환
+    public static UserProfileResponseDTO from(MemberProfile profile) {
+        return UserProfileResponseDTO.builder()
+                .userId(profile.id())
+                .nickname(profile.displayNickname())
+                .profileImage(profile.imageUrl())
+                .build();
+    }
+}
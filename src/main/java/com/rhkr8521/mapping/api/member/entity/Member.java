@@ -15,7 +15,9 @@ import java.util.Collections;
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 @Entity
 @Builder(toBuilder = true)  // toBuilder 옵션을 사용하여 기존 객체를 복사하는 빌더 생성 가능
-@Table(name = "member")
+@Table(name = "member", uniqueConstraints = {
+        @UniqueConstraint(name = "uk_member_nickname", columnNames = "nickname")
+})
 @AllArgsConstructor
 public class Member extends BaseTimeEntity implements UserDetails{
 
@@ -34,7 +36,6 @@ public class Member extends BaseTimeEntity implements UserDetails{
     private String socialId; // 로그인한 소셜 타입의 식별자 값
     private String socialType; // 소셜 로그인 타입
 
-    private String refreshToken; // 리프레시 토큰
     private String oauthRefreshToken; // OAuth 리프레시 토큰
 
     private boolean deleted; // 회원 탈퇴
@@ -63,13 +64,6 @@ public class Member extends BaseTimeEntity implements UserDetails{
                 .build();
     }
 
-    // 리프레시토큰 필드 업데이트
-    public Member updateRefreshToken(String updateRefreshToken) {
-        return this.toBuilder()
-                .refreshToken(updateRefreshToken)
-                .build();
-    }
-
     // 프로필이미지 필드 업데이트
     public Member updateImageUrl(String updateImageUrl) {
         return this.toBuilder()
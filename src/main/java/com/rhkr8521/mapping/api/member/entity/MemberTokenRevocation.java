@@ -0,0 +1,32 @@
+package com.rhkr8521.mapping.api.member.entity;
+
+import com.rhkr8521.mapping.common.entity.BaseTimeEntity;
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDateTime;
+
+/**
+ * 회원 단위 Access Token 폐기 (탈퇴)
+ * - revoked_before 이전에 발급된 회원의 Access Token 은 jti 와 관계없이 인증하지 않음
+ * - 그 시점에 발급된 Access Token 이 모두 만료되는 expires_at 이 지나면 삭제
+ */
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@AllArgsConstructor
+@Entity
+@Table(name = "member_token_revocation",
+        indexes = @Index(name = "idx_member_token_revocation_expires", columnList = "expires_at"))
+@Builder
+public class MemberTokenRevocation extends BaseTimeEntity {
+
+    @Id
+    @Column(name = "user_id")
+    private Long userId;
+
+    @Column(name = "revoked_before", nullable = false)
+    private LocalDateTime revokedBefore;
+
+    @Column(name = "expires_at", nullable = false)
+    private LocalDateTime expiresAt;
+}
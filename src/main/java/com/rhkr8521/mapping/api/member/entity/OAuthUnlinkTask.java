@@ -0,0 +1,52 @@
+package com.rhkr8521.mapping.api.member.entity;
+
+import com.rhkr8521.mapping.common.entity.BaseTimeEntity;
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDateTime;
+
+/**
+ * 탈퇴한 회원의 소셜 계정 연결 해제 작업 (성공하면 삭제)
+ * - 탈퇴 트랜잭션에서 함께 저장하고 백그라운드 작업기가 재시도하며 처리
+ * - next_attempt_at 은 다음 시도 시각이자 처리 중인 작업의 점유 만료 시각
+ * - 재시도해도 성공할 수 없는 실패(4xx)는 dead 로 표시해 남겨둠 (last_error 로 원인 확인)
+ */
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@AllArgsConstructor
+@Entity
+@Table(name = "oauth_unlink_task",
+        uniqueConstraints = @UniqueConstraint(name = "uk_oauth_unlink_task_member", columnNames = "member_id"),
+        indexes = @Index(name = "idx_oauth_unlink_task_due", columnList = "dead, next_attempt_at"))
+@Builder
+public class OAuthUnlinkTask extends BaseTimeEntity {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name = "oauth_unlink_task_id")
+    private Long id;
+
+    @Column(name = "member_id", nullable = false)
+    private Long memberId;
+
+    // 회원이 영구 삭제된 뒤에도 처리할 수 있도록 탈퇴 시점 값을 보관
+    @Column(name = "social_type", nullable = false, length = 20)
+    private String socialType;
+
+    @Column(name = "social_id")
+    private String socialId;
+
+    @Column(name = "oauth_refresh_token", length = 1024)
+    private String oauthRefreshToken;
+
+    private int attempts; // 실패한 시도 횟수
+
+    @Column(name = "next_attempt_at", nullable = false)
+    private LocalDateTime nextAttemptAt;
+
+    @Column(name = "last_error", length = 500)
+    private String lastError;
+
+    private boolean dead; // 재시도 중단
+}
@@ -0,0 +1,36 @@
+package com.rhkr8521.mapping.api.member.entity;
+
+import com.rhkr8521.mapping.common.entity.BaseTimeEntity;
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDateTime;
+
+/**
+ * 만료 전에 폐기한 Access Token (로그아웃, 탈퇴)
+ * - 토큰의 jti 와 원래 만료 시각만 저장하고, 만료가 지나면 삭제
+ */
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@AllArgsConstructor
+@Entity
+@Table(name = "revoked_access_token",
+        uniqueConstraints = @UniqueConstraint(name = "uk_revoked_access_token_jti", columnNames = "jti"),
+        indexes = @Index(name = "idx_revoked_access_token_expires", columnList = "expires_at"))
+@Builder
+public class RevokedAccessToken extends BaseTimeEntity {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name = "revoked_access_token_id")
+    private Long id;
+
+    @Column(name = "jti", nullable = false, length = 36)
+    private String jti;
+
+    @Column(name = "user_id", nullable = false)
+    private Long userId;
+
+    @Column(name = "expires_at", nullable = false)
+    private LocalDateTime expiresAt;
+}
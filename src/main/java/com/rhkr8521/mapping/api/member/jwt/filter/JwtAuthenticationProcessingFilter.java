@@ -1,9 +1,12 @@
 package com.rhkr8521.mapping.api.member.jwt.filter;
 
-import com.rhkr8521.mapping.api.member.entity.Member;
+import com.auth0.jwt.interfaces.DecodedJWT;
+import com.rhkr8521.mapping.api.member.entity.Role;
+import com.rhkr8521.mapping.api.member.jwt.principal.MemberPrincipal;
 import com.rhkr8521.mapping.api.member.repository.MemberRepository;
+import com.rhkr8521.mapping.api.member.jwt.service.AccessTokenRevocationService;
 import com.rhkr8521.mapping.api.member.jwt.service.JwtService;
-import com.rhkr8521.mapping.api.member.jwt.util.PasswordUtil;
+import com.rhkr8521.mapping.common.context.ViewerContext;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
@@ -12,7 +15,6 @@ import org.springframework.security.core.Authentication;
 import org.springframework.security.core.authority.mapping.GrantedAuthoritiesMapper;
 import org.springframework.security.core.authority.mapping.NullAuthoritiesMapper;
 import org.springframework.security.core.context.SecurityContextHolder;
-import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.web.filter.OncePerRequestFilter;
 
 import jakarta.servlet.FilterChain;
@@ -20,6 +22,7 @@ import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 import java.io.IOException;
+import java.time.Instant;
 import java.util.Optional;
 
 @RequiredArgsConstructor
@@ -29,14 +32,15 @@ public class JwtAuthenticationProcessingFilter extends OncePerRequestFilter {
     @Value("${jwt.access.header}")
     private String accessTokenHeader;
 
-    @Value("${jwt.refresh.header}")
-    private String refreshTokenHeader;
-
     private static final String NO_CHECK_URL = "/oauth2/authorization/kakao"; // 카카오 OAuth 요청 제외
     private static final String TOKEN_REISSUE_URL = "/api/v2/member/token-reissue"; // 토큰 재발급 엔드포인트
 
     private final JwtService jwtService;
     private final MemberRepository memberRepository;
+    private final AccessTokenRevocationService accessTokenRevocationService;
+
+    // 이전 형식 토큰 허용 기간 계산 기준
+    private final Instant startedAt = Instant.now();
 
     private GrantedAuthoritiesMapper authoritiesMapper = new NullAuthoritiesMapper();
 
@@ -50,51 +54,25 @@ public class JwtAuthenticationProcessingFilter extends OncePerRequestFilter {
             return;
         }
 
-        // 리프레시 토큰 재발급 로직은 /token-reissue 엔드포인트에서만 수행
+        // 토큰 재발급은 MemberController 의 /token-reissue 에서 처리 (Access Token 인증 불필요)
         if (requestURI.equals(TOKEN_REISSUE_URL)) {
-            // Refresh Token이 존재하는지 확인
-            Optional<String> refreshToken = extractToken(request, refreshTokenHeader)
-                    .filter(jwtService::isTokenValid);
-
-            // Refresh Token이 유효하면 Access Token을 재발급하고 인증 정보를 설정
-            if (refreshToken.isPresent()) {
-                handleRefreshToken(response, refreshToken.get());
-            }
             filterChain.doFilter(request, response);
             return;
         }
 
-        // Access Token이 존재하고 유효한지 확인
-        Optional<String> accessToken = extractToken(request, accessTokenHeader)
-                .filter(jwtService::isTokenValid);
-
-        accessToken.ifPresent(token -> jwtService.extractEmail(token)
-                .ifPresent(email -> memberRepository.findByEmail(email)
-                        .ifPresent(this::setAuthentication)));
+        // Access Token이 존재하고 유효하면 클레임으로 인증 정보 구성
+        extractToken(request, accessTokenHeader)
+                .flatMap(token -> jwtService.authenticate(token).claims())
+                .flatMap(this::toPrincipal)
+                .ifPresent(principal -> {
+                    setAuthentication(principal);
+                    // 요청 처리 중 사용자 ID 를 다시 조회하지 않도록 보관
+                    request.setAttribute(ViewerContext.USER_ID_ATTRIBUTE, principal.getId());
+                });
 
         filterChain.doFilter(request, response);
     }
 
-    // Refresh Token을 처리하여 Access Token 재발급 및 인증 처리
-    private void handleRefreshToken(HttpServletResponse response, String refreshToken) {
-        memberRepository.findByRefreshToken(refreshToken)
-                .ifPresent(user -> {
-                    String newAccessToken = jwtService.createAccessToken(user.getEmail());
-                    String newRefreshToken = jwtService.createRefreshToken(user.getEmail());
-
-                    // Refresh Token 업데이트
-                    jwtService.updateRefreshToken(user.getEmail(), newRefreshToken);
-
-                    // 새로운 Access Token과 Refresh Token을 헤더로 설정
-                    response.setHeader(accessTokenHeader, "Bearer " + newAccessToken);
-                    response.setHeader(refreshTokenHeader, "Bearer " + newRefreshToken);
-
-                    log.info("Access Token, Refresh Token 재발급 완료");
-                    log.info("Access Token : {}", newAccessToken);
-                    log.info("Refresh Token : {}", newRefreshToken);
-                });
-    }
-
     // 요청 헤더에서 토큰을 추출하는 메서드
     private Optional<String> extractToken(HttpServletRequest request, String headerName) {
         String bearerToken = request.getHeader(headerName);
@@ -104,21 +82,63 @@ public class JwtAuthenticationProcessingFilter extends OncePerRequestFilter {
         return Optional.empty();
     }
 
-    // 인증 정보를 SecurityContext에 설정하는 메서드
-    private void setAuthentication(Member member) {
-        String password = member.getPassword();
-        if (password == null) {
-            password = PasswordUtil.generateRandomPassword();
+    // 토큰 클레임으로 인증 사용자 구성 (이전 형식 토큰을 제외하면 DB 조회 없음)
+    private Optional<MemberPrincipal> toPrincipal(DecodedJWT jwt) {
+        String tokenType = jwt.getClaim(JwtService.TOKEN_TYPE_CLAIM).asString();
+        Long userId = jwt.getClaim(JwtService.USER_ID_CLAIM).asLong();
+        String role = jwt.getClaim(JwtService.ROLE_CLAIM).asString();
+
+        // Refresh Token 은 요청 인증에 사용할 수 없음
+        if (tokenType != null && !JwtService.ACCESS_TOKEN_TYPE.equals(tokenType)) {
+            log.debug("Access Token 이 아닙니다: {}", jwt.getId());
+            return Optional.empty();
         }
 
-        UserDetails userDetails = org.springframework.security.core.userdetails.User.builder()
-                .username(member.getEmail())
-                .password(password)
-                .roles(member.getRole().name())
-                .build();
+        // 사용자 ID 클레임이 없는 이전 형식의 토큰은 만료될 때까지 회원 조회로 처리
+        if (userId == null || role == null) {
+            return tokenType == null ? toLegacyPrincipal(jwt) : Optional.empty();
+        }
+
+        // 토큰 종류 클레임이 있는 토큰은 발급 시각 필수 (종류 클레임 도입 전 Access Token 은 발급 시각 없이 만료까지 허용)
+        if (tokenType != null && jwt.getIssuedAtAsInstant() == null) {
+            return Optional.empty();
+        }
+
+        // 로그아웃으로 폐기된 토큰, 탈퇴 전에 발급된 토큰 (대부분 블룸 필터와 맵 조회 한 번으로 통과)
+        if (accessTokenRevocationService.isRevoked(jwt.getId(), userId, jwt.getIssuedAtAsInstant())) {
+            log.debug("폐기된 토큰입니다: {}", jwt.getId());
+            return Optional.empty();
+        }
+
+        return Optional.of(new MemberPrincipal(userId, jwt.getSubject(), Role.valueOf(role),
+                jwt.getId(), jwt.getExpiresAtAsInstant()));
+    }
+
+    // 클레임 도입 전 형식(이메일 subject 와 만료 시각만 있는 토큰)
+    // - 이 형식은 배포 전에만 발급되었으므로, 배포 후 Access Token 유효 기간이 지나면 더 이상 조회하지 않음
+    // - 같은 형식의 Refresh Token 을 구분하기 위해 남은 유효 기간이 Access Token 유효 기간 이내인 경우만 허용
+    // - jti 가 있는 토큰은 이 형식 이후에 발급된 Refresh Token 이므로 거부
+    private Optional<MemberPrincipal> toLegacyPrincipal(DecodedJWT jwt) {
+        Instant now = Instant.now();
+        long accessTokenPeriod = jwtService.getAccessTokenExpirationPeriod();
+        Instant expiresAt = jwt.getExpiresAtAsInstant();
+        if (jwt.getId() != null || expiresAt == null
+                || now.isAfter(startedAt.plusMillis(accessTokenPeriod))
+                || expiresAt.isAfter(now.plusMillis(accessTokenPeriod))) {
+            return Optional.empty();
+        }
 
+        return memberRepository.findByEmail(jwt.getSubject())
+                .filter(member -> !member.isDeleted())
+                .filter(member -> !accessTokenRevocationService.isRevoked(null, member.getId(), null))
+                .map(member -> new MemberPrincipal(member.getId(), member.getEmail(), member.getRole(),
+                        null, expiresAt));
+    }
+
+    // 인증 정보를 SecurityContext에 설정하는 메서드
+    private void setAuthentication(MemberPrincipal principal) {
         Authentication authentication = new UsernamePasswordAuthenticationToken(
-                userDetails, null, authoritiesMapper.mapAuthorities(userDetails.getAuthorities()));
+                principal, null, authoritiesMapper.mapAuthorities(principal.getAuthorities()));
 
         SecurityContextHolder.getContext().setAuthentication(authentication);
     }
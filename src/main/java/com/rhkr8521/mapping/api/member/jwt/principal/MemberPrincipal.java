@@ -0,0 +1,51 @@
+package com.rhkr8521.mapping.api.member.jwt.principal;
+
+import com.rhkr8521.mapping.api.member.entity.Role;
+import lombok.Getter;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.security.core.userdetails.UserDetails;
+
+import java.time.Instant;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * JWT 클레임으로 만든 인증 사용자 정보
+ * - 요청 인증 시 회원 엔티티를 조회하지 않고 토큰의 사용자 ID, 권한만으로 구성
+ */
+@Getter
+public class MemberPrincipal implements UserDetails {
+
+    private final Long id;
+    private final String email;
+    private final Role role;
+    private final String tokenId; // 인증에 사용한 Access Token 의 jti (로그아웃 시 폐기용, 이전 형식 토큰은 null)
+    private final Instant tokenExpiresAt;
+    private final List<GrantedAuthority> authorities;
+
+    public MemberPrincipal(Long id, String email, Role role, String tokenId, Instant tokenExpiresAt) {
+        this.id = id;
+        this.email = email;
+        this.role = role;
+        this.tokenId = tokenId;
+        this.tokenExpiresAt = tokenExpiresAt;
+        this.authorities = List.of(new SimpleGrantedAuthority(role.getKey()));
+    }
+
+    @Override
+    public Collection<? extends GrantedAuthority> getAuthorities() {
+        return authorities;
+    }
+
+    // 소셜 로그인만 사용하므로 비밀번호 없음
+    @Override
+    public String getPassword() {
+        return null;
+    }
+
+    @Override
+    public String getUsername() {
+        return email;
+    }
+}
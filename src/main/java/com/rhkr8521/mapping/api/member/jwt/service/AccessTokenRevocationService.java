@@ -0,0 +1,153 @@
+package com.rhkr8521.mapping.api.member.jwt.service;
+
+import com.rhkr8521.mapping.api.member.entity.MemberTokenRevocation;
+import com.rhkr8521.mapping.api.member.entity.RevokedAccessToken;
+import com.rhkr8521.mapping.api.member.jwt.principal.MemberPrincipal;
+import com.rhkr8521.mapping.api.member.repository.MemberTokenRevocationRepository;
+import com.rhkr8521.mapping.api.member.repository.RevokedAccessTokenRepository;
+import com.rhkr8521.mapping.common.util.BloomFilter;
+import com.rhkr8521.mapping.common.util.TransactionUtils;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 만료 전 Access Token 폐기 목록
+ * - 요청마다 블룸 필터를 먼저 확인하고, 걸린 경우에만 정확한 셋으로 다시 확인 (DB 조회 없음)
+ * - 블룸 필터는 주기적으로 revoked_access_token 테이블에서 다시 만들어 여러 인스턴스가 같은 목록으로 수렴
+ * - 탈퇴한 회원은 회원 단위로 폐기해 그 시각 이전에 발급된 Access Token 을 모두 거부 (member_token_revocation)
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class AccessTokenRevocationService {
+
+    private static final double FALSE_POSITIVE_RATE = 0.01;
+    private static final int MIN_EXPECTED_INSERTIONS = 1024;
+    // 재구성 쿼리와 겹친 로컬 폐기를 다음 재구성까지 유지하는 시간
+    private static final long LOCAL_RETENTION_MILLIS = 120_000L;
+
+    private final RevokedAccessTokenRepository revokedAccessTokenRepository;
+    private final MemberTokenRevocationRepository memberTokenRevocationRepository;
+    private final JwtService jwtService;
+
+    private final Map<String, Long> localRevocations = new ConcurrentHashMap<>();
+    private final Map<Long, LocalMemberRevocation> localMemberRevocations = new ConcurrentHashMap<>();
+    private volatile RevocationSnapshot snapshot = new RevocationSnapshot(List.of(), List.of());
+
+    // 폐기된 토큰인지 확인 (jti 단위 폐기 또는 발급 시각이 회원 단위 폐기 시각 이전인 경우)
+    public boolean isRevoked(String jti, Long userId, Instant issuedAt) {
+        RevocationSnapshot current = snapshot;
+        if (jti != null && current.contains(jti)) {
+            return true;
+        }
+        Long revokedBefore = current.memberRevokedBefore(userId);
+        return revokedBefore != null && (issuedAt == null || issuedAt.getEpochSecond() <= revokedBefore);
+    }
+
+    // 현재 요청의 Access Token 폐기 (로그아웃, 탈퇴)
+    @Transactional
+    public void revoke(MemberPrincipal principal) {
+        String jti = principal.getTokenId();
+        if (jti == null || principal.getTokenExpiresAt() == null || revokedAccessTokenRepository.existsByJti(jti)) {
+            return;
+        }
+
+        revokedAccessTokenRepository.save(RevokedAccessToken.builder()
+                .jti(jti)
+                .userId(principal.getId())
+                .expiresAt(LocalDateTime.ofInstant(principal.getTokenExpiresAt(), ZoneId.systemDefault()))
+                .build());
+
+        TransactionUtils.runAfterCommit(() -> {
+            localRevocations.put(jti, System.currentTimeMillis());
+            snapshot.add(jti);
+        });
+    }
+
+    // 회원의 Access Token 전체 폐기 (탈퇴, 호출한 쪽 트랜잭션에 참여)
+    // - 지금까지 발급된 토큰이 모두 만료될 때까지 회원 단위 폐기 기록 유지
+    @Transactional
+    public void revokeAll(Long userId) {
+        LocalDateTime now = LocalDateTime.now().withNano(0);
+        memberTokenRevocationRepository.save(MemberTokenRevocation.builder()
+                .userId(userId)
+                .revokedBefore(now)
+                .expiresAt(now.plusSeconds(jwtService.getAccessTokenExpirationPeriod() / 1000 + 1))
+                .build());
+
+        long revokedBefore = now.atZone(ZoneId.systemDefault()).toEpochSecond();
+        TransactionUtils.runAfterCommit(() -> {
+            localMemberRevocations.put(userId, new LocalMemberRevocation(revokedBefore, System.currentTimeMillis()));
+            snapshot.revokeMember(userId, revokedBefore);
+        });
+    }
+
+    // 테이블 기준으로 블룸 필터와 정확한 셋 재구성 (복제 지연을 피하기 위해 MASTER 에서 조회)
+    @Transactional
+    public void rebuild() {
+        LocalDateTime current = LocalDateTime.now();
+        List<String> jtis = revokedAccessTokenRepository.findActiveJtis(current);
+        List<MemberTokenRevocation> memberRevocations = memberTokenRevocationRepository.findActive(current);
+        RevocationSnapshot rebuilt = new RevocationSnapshot(jtis, memberRevocations);
+
+        long now = System.currentTimeMillis();
+        localRevocations.entrySet().removeIf(entry -> now - entry.getValue() > LOCAL_RETENTION_MILLIS);
+        localRevocations.keySet().forEach(rebuilt::add);
+        localMemberRevocations.entrySet().removeIf(entry -> now - entry.getValue().recordedAt() > LOCAL_RETENTION_MILLIS);
+        localMemberRevocations.forEach((userId, revocation) -> rebuilt.revokeMember(userId, revocation.revokedBefore()));
+
+        snapshot = rebuilt;
+        log.debug("Access Token 폐기 목록 재구성 ({}건)", rebuilt.size());
+    }
+
+    // 재구성 쿼리와 겹친 로컬 회원 단위 폐기 (폐기 시각은 epoch 초)
+    private record LocalMemberRevocation(long revokedBefore, long recordedAt) {
+    }
+
+    private static final class RevocationSnapshot {
+        private final BloomFilter bloomFilter;
+        private final Set<String> exact = ConcurrentHashMap.newKeySet();
+        // 회원 ID -> 이 시각(epoch 초) 이전에 발급된 토큰은 폐기
+        private final Map<Long, Long> memberRevokedBefore = new ConcurrentHashMap<>();
+
+        private RevocationSnapshot(Collection<String> jtis, Collection<MemberTokenRevocation> memberRevocations) {
+            this.bloomFilter = new BloomFilter(Math.max(MIN_EXPECTED_INSERTIONS, jtis.size() * 2), FALSE_POSITIVE_RATE);
+            jtis.forEach(this::add);
+            memberRevocations.forEach(revocation -> revokeMember(revocation.getUserId(),
+                    revocation.getRevokedBefore().atZone(ZoneId.systemDefault()).toEpochSecond()));
+        }
+
+        private void revokeMember(Long userId, long revokedBefore) {
+            memberRevokedBefore.merge(userId, revokedBefore, Math::max);
+        }
+
+        private Long memberRevokedBefore(Long userId) {
+            return userId == null ? null : memberRevokedBefore.get(userId);
+        }
+
+        // 정확한 셋에 먼저 넣어 블룸 필터에 걸린 jti 는 항상 셋에서 찾을 수 있도록 함
+        private void add(String jti) {
+            exact.add(jti);
+            bloomFilter.add(jti);
+        }
+
+        private boolean contains(String jti) {
+            return bloomFilter.mightContain(jti) && exact.contains(jti);
+        }
+
+        private int size() {
+            return exact.size();
+        }
+    }
+}
@@ -0,0 +1,35 @@
+package com.rhkr8521.mapping.api.member.jwt.service;
+
+import com.auth0.jwt.interfaces.DecodedJWT;
+
+import java.util.Optional;
+
+/**
+ * 토큰 검증 결과 (검증된 클레임 또는 실패 사유)
+ */
+public record JwtAuthenticationResult(Status status, DecodedJWT jwt) {
+
+    public enum Status {
+        VALID,             // 검증 성공
+        EXPIRED,           // 만료된 토큰
+        INVALID_SIGNATURE, // 서명 검증 실패
+        INVALID            // 형식 오류 등 그 밖의 검증 실패
+    }
+
+    static JwtAuthenticationResult valid(DecodedJWT jwt) {
+        return new JwtAuthenticationResult(Status.VALID, jwt);
+    }
+
+    static JwtAuthenticationResult failure(Status status) {
+        return new JwtAuthenticationResult(status, null);
+    }
+
+    public boolean isValid() {
+        return status == Status.VALID;
+    }
+
+    // 검증에 성공한 경우에만 클레임 반환
+    public Optional<DecodedJWT> claims() {
+        return Optional.ofNullable(jwt);
+    }
+}
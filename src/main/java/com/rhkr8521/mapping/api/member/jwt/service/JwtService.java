@@ -2,13 +2,14 @@ package com.rhkr8521.mapping.api.member.jwt.service;
 
 import com.auth0.jwt.JWT;
 import com.auth0.jwt.algorithms.Algorithm;
+import com.auth0.jwt.exceptions.JWTVerificationException;
 import com.auth0.jwt.exceptions.SignatureVerificationException;
 import com.auth0.jwt.exceptions.TokenExpiredException;
+import com.auth0.jwt.interfaces.DecodedJWT;
+import com.auth0.jwt.interfaces.JWTVerifier;
 import com.rhkr8521.mapping.api.member.entity.Member;
-import com.rhkr8521.mapping.api.member.repository.MemberRepository;
-import jakarta.transaction.Transactional;
+import lombok.AccessLevel;
 import lombok.Getter;
-import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
@@ -16,53 +17,74 @@ import org.springframework.stereotype.Service;
 import java.util.Date;
 import java.util.Map;
 import java.util.Optional;
+import java.util.UUID;
 
 @Service
-@RequiredArgsConstructor
 @Getter
 @Slf4j
 public class JwtService {
 
-    @Value("${jwt.secretKey}")
-    private String secretKey;
-
-    @Value("${jwt.access.expiration}")
-    private Long accessTokenExpirationPeriod;
-
-    @Value("${jwt.refresh.expiration}")
-    private Long refreshTokenExpirationPeriod;
-
-    private final MemberRepository memberRepository;
+    // Access Token 클레임 (요청 인증 시 회원 조회 없이 사용)
+    public static final String USER_ID_CLAIM = "id";
+    public static final String ROLE_CLAIM = "role";
+    // 토큰 종류 (요청 인증에는 Access Token 만 허용)
+    public static final String TOKEN_TYPE_CLAIM = "token_type";
+    public static final String ACCESS_TOKEN_TYPE = "access";
+    public static final String REFRESH_TOKEN_TYPE = "refresh";
+
+    private final String secretKey;
+    private final Long accessTokenExpirationPeriod;
+    private final Long refreshTokenExpirationPeriod;
+
+    // 서명 알고리즘과 검증기는 불변이고 스레드 안전하므로 한 번만 생성해 재사용
+    @Getter(AccessLevel.NONE)
+    private final Algorithm algorithm;
+    @Getter(AccessLevel.NONE)
+    private final JWTVerifier verifier;
+
+    public JwtService(@Value("${jwt.secretKey}") String secretKey,
+                      @Value("${jwt.access.expiration}") Long accessTokenExpirationPeriod,
+                      @Value("${jwt.refresh.expiration}") Long refreshTokenExpirationPeriod) {
+        this.secretKey = secretKey;
+        this.accessTokenExpirationPeriod = accessTokenExpirationPeriod;
+        this.refreshTokenExpirationPeriod = refreshTokenExpirationPeriod;
+        this.algorithm = Algorithm.HMAC512(secretKey);
+        this.verifier = JWT.require(algorithm).build();
+    }
 
-    // Access Token 생성
-    public String createAccessToken(String email) {
+    // Access Token 생성 (사용자 ID, 권한 클레임과 폐기 확인용 jti, 발급 시각 포함)
+    public String createAccessToken(Member member) {
         Date now = new Date();
         return JWT.create()
-                .withSubject(email)
+                .withSubject(member.getEmail())
+                .withJWTId(UUID.randomUUID().toString())
+                .withIssuedAt(now)
+                .withClaim(TOKEN_TYPE_CLAIM, ACCESS_TOKEN_TYPE)
+                .withClaim(USER_ID_CLAIM, member.getId())
+                .withClaim(ROLE_CLAIM, member.getRole().name())
                 .withExpiresAt(new Date(now.getTime() + accessTokenExpirationPeriod))
-                .sign(Algorithm.HMAC512(secretKey));
+                .sign(algorithm);
     }
 
-    // Refresh Token 생성
+    // Refresh Token 생성 (같은 시각에 발급해도 해시가 겹치지 않도록 jti 포함)
     public String createRefreshToken(String email) {
         Date now = new Date();
         return JWT.create()
                 .withSubject(email)
+                .withJWTId(UUID.randomUUID().toString())
+                .withIssuedAt(now)
+                .withClaim(TOKEN_TYPE_CLAIM, REFRESH_TOKEN_TYPE)
                 .withExpiresAt(new Date(now.getTime() + refreshTokenExpirationPeriod))
-                .sign(Algorithm.HMAC512(secretKey));
+                .sign(algorithm);
     }
 
-    // Access Token과 Refresh Token 발급 및 반환
-    public Map<String, String> createAccessAndRefreshToken(String email) {
-        String accessToken = createAccessToken(email);
-        String refreshToken = createRefreshToken(email);
-
-        // Refresh Token DB에 업데이트
-        updateRefreshToken(email, refreshToken);
+    // Access Token과 Refresh Token 발급 및 반환 (Refresh Token 저장은 RefreshTokenService 에서 처리)
+    public Map<String, String> createAccessAndRefreshToken(Member member) {
+        String accessToken = createAccessToken(member);
+        String refreshToken = createRefreshToken(member.getEmail());
 
-        log.info("Access Token, Refresh Token 발급 완료");
-        log.info("Access Token : {}", accessToken);
-        log.info("Refresh Token : {}", refreshToken);
+        // 토큰 원문은 로그에 남기지 않음
+        log.debug("Access Token, Refresh Token 발급 완료: userId={}", member.getId());
 
         // Access Token과 Refresh Token을 Map으로 반환
         return Map.of(
@@ -71,40 +93,28 @@ public class JwtService {
         );
     }
 
-    @Transactional
-    public void updateRefreshToken(String email, String refreshToken) {
-        memberRepository.findByEmail(email).ifPresent(member -> {
-            Member updatedMember = member.updateRefreshToken(refreshToken);
-            memberRepository.save(updatedMember);
-        });
-    }
-
-    public boolean isTokenValid(String token) {
+    // 토큰 검증 (서명 검증은 한 번만 수행하고, 클레임 또는 실패 사유를 반환)
+    public JwtAuthenticationResult authenticate(String token) {
         try {
-            JWT.require(Algorithm.HMAC512(secretKey)).build().verify(token);
-            return true;
+            return JwtAuthenticationResult.valid(verifier.verify(token));
         } catch (TokenExpiredException e) {
-            log.error("토큰이 만료되었습니다: {}", e.getMessage());
-            return false;
+            log.debug("토큰이 만료되었습니다: {}", e.getMessage());
+            return JwtAuthenticationResult.failure(JwtAuthenticationResult.Status.EXPIRED);
         } catch (SignatureVerificationException e) {
-            log.error("토큰 서명 검증 실패: {}", e.getMessage());
-            return false;
-        } catch (Exception e) {
-            log.error("유효하지 않은 토큰입니다: {}", e.getMessage());
-            return false;
+            log.debug("토큰 서명 검증 실패: {}", e.getMessage());
+            return JwtAuthenticationResult.failure(JwtAuthenticationResult.Status.INVALID_SIGNATURE);
+        } catch (JWTVerificationException e) {
+            log.debug("유효하지 않은 토큰입니다: {}", e.getMessage());
+            return JwtAuthenticationResult.failure(JwtAuthenticationResult.Status.INVALID);
         }
     }
 
+    public boolean isTokenValid(String token) {
+        return authenticate(token).isValid();
+    }
+
     public Optional<String> extractEmail(String accessToken) {
-        try {
-            return Optional.ofNullable(JWT.require(Algorithm.HMAC512(secretKey))
-                    .build()
-                    .verify(accessToken)
-                    .getClaim("sub")
-                    .asString());
-        } catch (Exception e) {
-            log.error("액세스 토큰이 유효하지 않습니다.");
-            return Optional.empty();
-        }
+        return authenticate(accessToken).claims()
+                .map(DecodedJWT::getSubject);
     }
 }
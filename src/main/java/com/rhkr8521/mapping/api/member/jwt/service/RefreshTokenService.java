@@ -0,0 +1,107 @@
+package com.rhkr8521.mapping.api.member.jwt.service;
+
+import com.rhkr8521.mapping.api.member.entity.Member;
+import com.rhkr8521.mapping.api.member.entity.RefreshToken;
+import com.rhkr8521.mapping.api.member.repository.MemberRepository;
+import com.rhkr8521.mapping.api.member.repository.RefreshTokenRepository;
+import com.rhkr8521.mapping.common.exception.UnauthorizedException;
+import com.rhkr8521.mapping.common.response.ErrorStatus;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.LocalDateTime;
+import java.util.HexFormat;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * 리프레시 토큰 발급/재발급(회전)
+ * - 토큰 원문은 저장하지 않고 SHA-256 해시로 조회
+ * - 재발급 시 기존 토큰은 사용 처리하고 같은 family 로 새 토큰 발급
+ * - 이미 사용된 토큰이 다시 들어오면 family 전체 폐기 (탈취된 토큰 재사용 차단)
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class RefreshTokenService {
+
+    private final JwtService jwtService;
+    private final RefreshTokenRepository refreshTokenRepository;
+    private final MemberRepository memberRepository;
+
+    // 로그인 시 새 family 로 Access/Refresh Token 발급
+    @Transactional
+    public Map<String, String> issue(Member member) {
+        return issueInFamily(member, UUID.randomUUID().toString());
+    }
+
+    // 리프레시 토큰으로 재발급 (폐기/재사용 감지 결과는 예외가 나도 커밋)
+    @Transactional(noRollbackFor = UnauthorizedException.class)
+    public Map<String, String> rotate(String rawRefreshToken) {
+        if (!jwtService.isTokenValid(rawRefreshToken)) {
+            throw new UnauthorizedException(ErrorStatus.INVALID_REFRESHTOKEN_EXCEPTION.getMessage());
+        }
+
+        RefreshToken token = refreshTokenRepository.findByTokenHash(hash(rawRefreshToken))
+                .orElseThrow(() -> new UnauthorizedException(ErrorStatus.INVALID_REFRESHTOKEN_EXCEPTION.getMessage()));
+
+        if (token.isRevoked() || token.isExpired(LocalDateTime.now())) {
+            throw new UnauthorizedException(ErrorStatus.INVALID_REFRESHTOKEN_EXCEPTION.getMessage());
+        }
+
+        // 이미 사용된 토큰이거나 동시에 다른 요청이 먼저 사용한 경우 family 전체 폐기
+        if (token.isUsed() || refreshTokenRepository.markUsed(token.getId()) == 0) {
+            refreshTokenRepository.revokeFamily(token.getFamilyId());
+            log.warn("리프레시 토큰 재사용 감지, family 폐기: userId={}, familyId={}", token.getUserId(), token.getFamilyId());
+            throw new UnauthorizedException(ErrorStatus.INVALID_REFRESHTOKEN_EXCEPTION.getMessage());
+        }
+
+        Member member = memberRepository.findById(token.getUserId())
+                .filter(m -> !m.isDeleted())
+                .orElseThrow(() -> new UnauthorizedException(ErrorStatus.INVALID_REFRESHTOKEN_EXCEPTION.getMessage()));
+
+        return issueInFamily(member, token.getFamilyId());
+    }
+
+    // 리프레시 토큰이 속한 로그인(family) 폐기 (로그아웃 시)
+    @Transactional
+    public void revoke(String rawRefreshToken) {
+        refreshTokenRepository.findByTokenHash(hash(rawRefreshToken))
+                .ifPresent(token -> refreshTokenRepository.revokeFamily(token.getFamilyId()));
+    }
+
+    // 회원의 모든 리프레시 토큰 폐기 (탈퇴 시)
+    @Transactional
+    public void revokeAll(Long userId) {
+        refreshTokenRepository.revokeAllByUserId(userId);
+    }
+
+    private Map<String, String> issueInFamily(Member member, String familyId) {
+        Map<String, String> tokens = jwtService.createAccessAndRefreshToken(member);
+
+        refreshTokenRepository.save(RefreshToken.builder()
+                .tokenHash(hash(tokens.get("refreshToken")))
+                .familyId(familyId)
+                .userId(member.getId())
+                .expiresAt(LocalDateTime.now().plusNanos(jwtService.getRefreshTokenExpirationPeriod() * 1_000_000L))
+                .used(false)
+                .revoked(false)
+                .build());
+
+        return tokens;
+    }
+
+    public static String hash(String token) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            return HexFormat.of().formatHex(digest.digest(token.getBytes(StandardCharsets.UTF_8)));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 을 사용할 수 없습니다.", e);
+        }
+    }
+}
@@ -3,6 +3,8 @@ package com.rhkr8521.mapping.api.member.repository;
 import com.rhkr8521.mapping.api.member.entity.Member;
 import com.rhkr8521.mapping.api.member.entity.MemberBlock;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.util.List;
@@ -15,5 +17,13 @@ public interface MemberBlockRepository extends JpaRepository<MemberBlock, Long>
     Optional<MemberBlock> findByBlockerAndBlocked(Member blocker, Member blocked);
     List<MemberBlock> findByBlocker(Member blocker);
 
+    // 차단한 사용자 ID 목록 (회원 엔티티 로딩 없이 조회)
+    @Query("select mb.blocked.id from MemberBlock mb where mb.blocker.id = :blockerId")
+    List<Long> findBlockedIdsByBlockerId(@Param("blockerId") Long blockerId);
+
+    // 나를 차단한 사용자 ID 목록 (역방향 조회)
+    @Query("select mb.blocker.id from MemberBlock mb where mb.blocked.id = :blockedId")
+    List<Long> findBlockerIdsByBlockedId(@Param("blockedId") Long blockedId);
+
     void deleteAllByBlockerIdOrBlockedId(Long memberId, Long memberId1);
 }
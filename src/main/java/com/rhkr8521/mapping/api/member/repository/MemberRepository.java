@@ -1,9 +1,13 @@
 package com.rhkr8521.mapping.api.member.repository;
 
+import com.rhkr8521.mapping.api.member.cache.MemberProfile;
 import com.rhkr8521.mapping.api.member.entity.Member;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -11,11 +15,18 @@ public interface MemberRepository extends JpaRepository<Member, Long> {
 
     Optional<Member> findByEmail(String email);
 
-    Optional<Member> findByRefreshToken(String refreshToken);
-
     Optional<Member> findBySocialId(String socialId);
 
     List<Member> findAllByDeletedTrueAndDeletedAtBefore(LocalDateTime cutoff);
 
     boolean existsByNickname(String nickname);
+
+    // 랜덤 닉네임 형식(#숫자)의 닉네임 목록 (닉네임 할당기 로딩용)
+    @Query("select m.nickname from Member m where m.nickname like '%#%'")
+    List<String> findAllGeneratedNicknames();
+
+    // 작성자 표시 정보 일괄 조회 (회원 프로필 캐시 로딩용)
+    @Query("select new com.rhkr8521.mapping.api.member.cache.MemberProfile(m.id, m.nickname, m.imageUrl, m.deleted) " +
+            "from Member m where m.id in :ids")
+    List<MemberProfile> findProfilesByIdIn(@Param("ids") Collection<Long> ids);
 }
@@ -0,0 +1,24 @@
+package com.rhkr8521.mapping.api.member.repository;
+
+import com.rhkr8521.mapping.api.member.entity.MemberTokenRevocation;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Repository
+public interface MemberTokenRevocationRepository extends JpaRepository<MemberTokenRevocation, Long> {
+
+    // 아직 만료되지 않은 회원 단위 폐기 목록 (폐기 목록 재구성용)
+    @Query("select r from MemberTokenRevocation r where r.expiresAt > :now")
+    List<MemberTokenRevocation> findActive(@Param("now") LocalDateTime now);
+
+    // 만료된 회원 단위 폐기 기록을 나누어 삭제
+    @Modifying
+    @Query(value = "DELETE FROM member_token_revocation WHERE expires_at < :now LIMIT :limit", nativeQuery = true)
+    int deleteExpiredBatch(@Param("now") LocalDateTime now, @Param("limit") int limit);
+}
@@ -0,0 +1,44 @@
+package com.rhkr8521.mapping.api.member.repository;
+
+import com.rhkr8521.mapping.api.member.entity.OAuthUnlinkTask;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+@Repository
+public interface OAuthUnlinkTaskRepository extends JpaRepository<OAuthUnlinkTask, Long> {
+
+    // 처리할 차례인 작업을 잠그고 조회 (다른 인스턴스가 잠근 행은 건너뜀)
+    @Query(value = "SELECT * FROM oauth_unlink_task WHERE dead = false AND next_attempt_at <= :now " +
+            "ORDER BY next_attempt_at LIMIT :limit FOR UPDATE SKIP LOCKED", nativeQuery = true)
+    List<OAuthUnlinkTask> findDueForUpdate(@Param("now") LocalDateTime now, @Param("limit") int limit);
+
+    // 처리 중인 작업 점유 (작업기가 중간에 죽으면 점유 만료 후 다시 처리)
+    @Modifying
+    @Query("update OAuthUnlinkTask t set t.nextAttemptAt = :leaseUntil where t.id in :ids")
+    int lease(@Param("ids") Collection<Long> ids, @Param("leaseUntil") LocalDateTime leaseUntil);
+
+    // 실패한 작업의 다음 시도 예약
+    @Modifying
+    @Query("update OAuthUnlinkTask t set t.attempts = t.attempts + 1, t.nextAttemptAt = :nextAttemptAt, " +
+            "t.lastError = :lastError where t.id = :id")
+    int scheduleRetry(@Param("id") Long id, @Param("nextAttemptAt") LocalDateTime nextAttemptAt,
+                      @Param("lastError") String lastError);
+
+    // 재시도해도 성공할 수 없는 작업의 재시도 중단
+    @Modifying
+    @Query("update OAuthUnlinkTask t set t.attempts = t.attempts + 1, t.dead = true, " +
+            "t.lastError = :lastError where t.id = :id")
+    int markDead(@Param("id") Long id, @Param("lastError") String lastError);
+
+    // 탈퇴 회원이 다시 로그인해 복구되면 남은 작업 취소
+    @Modifying
+    @Query("delete from OAuthUnlinkTask t where t.memberId = :memberId")
+    int deleteByMemberId(@Param("memberId") Long memberId);
+}
@@ -0,0 +1,39 @@
+package com.rhkr8521.mapping.api.member.repository;
+
+import com.rhkr8521.mapping.api.member.entity.RefreshToken;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.Optional;
+
+@Repository
+public interface RefreshTokenRepository extends JpaRepository<RefreshToken, Long> {
+
+    Optional<RefreshToken> findByTokenHash(String tokenHash);
+
+    // 사용 처리 (동시에 같은 토큰으로 재발급하면 한 요청만 1 을 반환)
+    @Modifying
+    @Query("update RefreshToken t set t.used = true where t.id = :id and t.used = false and t.revoked = false")
+    int markUsed(@Param("id") Long id);
+
+    // 같은 로그인에서 이어진 토큰 전체 폐기
+    @Modifying
+    @Query("update RefreshToken t set t.revoked = true where t.familyId = :familyId")
+    int revokeFamily(@Param("familyId") String familyId);
+
+    // 회원의 모든 리프레시 토큰 폐기 (탈퇴 시)
+    @Modifying
+    @Query("update RefreshToken t set t.revoked = true where t.userId = :userId")
+    int revokeAllByUserId(@Param("userId") Long userId);
+
+    // 만료된 토큰을 나누어 삭제 (한 번에 큰 삭제로 잠금이 길어지지 않도록)
+    @Modifying
+    @Query(value = "DELETE FROM refresh_token WHERE expires_at < :now LIMIT :limit", nativeQuery = true)
+    int deleteExpiredBatch(@Param("now") LocalDateTime now, @Param("limit") int limit);
+
+    void deleteAllByUserId(Long userId);
+}
@@ -0,0 +1,26 @@
+package com.rhkr8521.mapping.api.member.repository;
+
+import com.rhkr8521.mapping.api.member.entity.RevokedAccessToken;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Repository
+public interface RevokedAccessTokenRepository extends JpaRepository<RevokedAccessToken, Long> {
+
+    boolean existsByJti(String jti);
+
+    // 아직 만료되지 않은 폐기 토큰의 jti 목록 (블룸 필터 재구성용)
+    @Query("select t.jti from RevokedAccessToken t where t.expiresAt > :now")
+    List<String> findActiveJtis(@Param("now") LocalDateTime now);
+
+    // 만료된 폐기 기록을 나누어 삭제
+    @Modifying
+    @Query(value = "DELETE FROM revoked_access_token WHERE expires_at < :now LIMIT :limit", nativeQuery = true)
+    int deleteExpiredBatch(@Param("now") LocalDateTime now, @Param("limit") int limit);
+}
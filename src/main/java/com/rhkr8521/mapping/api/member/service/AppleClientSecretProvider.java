@@ -0,0 +1,153 @@
+package com.rhkr8521.mapping.api.member.service;
+
+import com.nimbusds.jose.JOSEException;
+import com.nimbusds.jose.JWSAlgorithm;
+import com.nimbusds.jose.JWSHeader;
+import com.nimbusds.jose.JWSSigner;
+import com.nimbusds.jose.crypto.ECDSASigner;
+import com.nimbusds.jwt.JWTClaimsSet;
+import com.nimbusds.jwt.SignedJWT;
+import lombok.extern.slf4j.Slf4j;
+import org.bouncycastle.util.io.pem.PemObject;
+import org.bouncycastle.util.io.pem.PemReader;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.io.*;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.security.KeyFactory;
+import java.security.interfaces.ECPrivateKey;
+import java.security.spec.PKCS8EncodedKeySpec;
+import java.util.Date;
+
+/**
+ * Apple 과 통신할 때 쓰는 client secret (ES256 JWT) 발급기
+ * - .p8 개인키는 처음 한 번만 읽어 서명기를 재사용
+ * - 서명한 client secret 은 만료 직전까지 재사용하고 스케줄러가 미리 갱신
+ */
+@Slf4j
+@Service
+public class AppleClientSecretProvider {
+
+    private static final String APPLE_AUTH_URL = "https://appleid.apple.com";
+
+    private final String teamId;
+    private final String keyId;
+    private final String clientId;
+    private final String keyPath;
+    private final long validityMillis;
+    private final long refreshMarginMillis;
+
+    private volatile JWSSigner signer;
+    private volatile ClientSecret clientSecret;
+
+    public AppleClientSecretProvider(@Value("${social-login.provider.apple.team-id}") String teamId,
+                                     @Value("${social-login.provider.apple.key-id}") String keyId,
+                                     @Value("${spring.security.oauth2.client.registration.apple.clientId}") String clientId,
+                                     @Value("${spring.security.oauth2.client.registration.apple.clientSecret}") String keyPath,
+                                     @Value("${social-login.provider.apple.client-secret.validity-ms:3600000}") long validityMillis,
+                                     @Value("${social-login.provider.apple.client-secret.refresh-margin-ms:600000}") long refreshMarginMillis) {
+        this.teamId = teamId;
+        this.keyId = keyId;
+        this.clientId = clientId;
+        this.keyPath = keyPath;
+        this.validityMillis = validityMillis;
+        this.refreshMarginMillis = refreshMarginMillis;
+    }
+
+    // 만료 직전이 아니면 캐시된 client secret 반환
+    public String getClientSecret() throws Exception {
+        ClientSecret current = clientSecret;
+        if (current != null && !current.isExpiringSoon(System.currentTimeMillis(), refreshMarginMillis)) {
+            return current.value();
+        }
+        return issue();
+    }
+
+    // 이미 발급한 client secret 이 만료에 가까우면 요청 전에 미리 재발급 (스케줄러에서 호출)
+    public void refreshIfExpiringSoon() throws Exception {
+        ClientSecret current = clientSecret;
+        // 한 번도 사용하지 않은 환경에서는 키를 읽지 않음
+        if (current == null || !current.isExpiringSoon(System.currentTimeMillis(), refreshMarginMillis)) {
+            return;
+        }
+        issue();
+        log.debug("Apple client secret 을 미리 재발급했습니다.");
+    }
+
+    // 동시에 여러 요청이 만료를 발견해도 한 번만 서명
+    private synchronized String issue() throws Exception {
+        ClientSecret current = clientSecret;
+        if (current != null && !current.isExpiringSoon(System.currentTimeMillis(), refreshMarginMillis)) {
+            return current.value();
+        }
+
+        long now = System.currentTimeMillis();
+        JWSHeader header = new JWSHeader.Builder(JWSAlgorithm.ES256)
+                .keyID(keyId)
+                .build();
+
+        JWTClaimsSet claimsSet = new JWTClaimsSet.Builder()
+                .issuer(teamId)
+                .issueTime(new Date(now))
+                .expirationTime(new Date(now + validityMillis))
+                .audience(APPLE_AUTH_URL)
+                .subject(clientId)
+                .build();
+
+        SignedJWT jwt = new SignedJWT(header, claimsSet);
+        try {
+            jwt.sign(getSigner());
+        } catch (JOSEException e) {
+            throw new Exception("JWT 서명 실패", e);
+        }
+
+        ClientSecret issued = new ClientSecret(jwt.serialize(), now + validityMillis);
+        clientSecret = issued;
+        return issued.value();
+    }
+
+    // .p8 개인키로 만든 서명기 (issue 의 락 안에서만 호출)
+    private JWSSigner getSigner() throws Exception {
+        if (signer == null) {
+            PKCS8EncodedKeySpec spec = new PKCS8EncodedKeySpec(readPrivateKey());
+            ECPrivateKey ecPrivateKey = (ECPrivateKey) KeyFactory.getInstance("EC").generatePrivate(spec);
+            signer = new ECDSASigner(ecPrivateKey);
+        }
+        return signer;
+    }
+
+    /**
+     * .p8 키 파일에서 개인키를 읽어 byte[] 반환
+     * - 클래스패스(jar 포함) 리소스를 스트림으로 바로 읽고, 없으면 파일 경로에서 읽음
+     */
+    private byte[] readPrivateKey() throws Exception {
+        InputStream resource = getClass().getResourceAsStream(keyPath);
+        if (resource == null) {
+            Path path = Path.of(keyPath);
+            if (!Files.exists(path)) {
+                throw new Exception("키 파일을 찾을 수 없습니다: " + keyPath);
+            }
+            resource = Files.newInputStream(path);
+        }
+
+        try (PemReader pemReader = new PemReader(new InputStreamReader(resource, StandardCharsets.UTF_8))) {
+            PemObject pemObject = pemReader.readPemObject();
+            if (pemObject == null) {
+                throw new Exception("개인키 형식이 올바르지 않습니다: " + keyPath);
+            }
+            return pemObject.getContent();
+        } catch (IOException e) {
+            throw new Exception("개인키 읽기 실패", e);
+        }
+    }
+
+    private record ClientSecret(String value, long expiresAt) {
+
+        private boolean isExpiringSoon(long now, long marginMillis) {
+            return now >= expiresAt - marginMillis;
+        }
+    }
+}
@@ -2,9 +2,10 @@ package com.rhkr8521.mapping.api.member.service;
 
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.nimbusds.jwt.JWTClaimsSet;
 import com.rhkr8521.mapping.api.member.dto.GoogleTokenResponseDTO;
 import com.rhkr8521.mapping.api.member.dto.GoogleUserInfoDTO;
-import lombok.RequiredArgsConstructor;
+import com.rhkr8521.mapping.common.config.http.OutboundRestTemplateFactory;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.http.*;
@@ -14,7 +15,6 @@ import org.springframework.util.MultiValueMap;
 import org.springframework.web.client.RestTemplate;
 
 @Service
-@RequiredArgsConstructor
 @Slf4j
 public class GoogleService {
 
@@ -31,12 +31,21 @@ public class GoogleService {
     private static final String REVOKE_URL   = "https://oauth2.googleapis.com/revoke";
     private static final String USERINFO_URL = "https://openidconnect.googleapis.com/v1/userinfo";
 
-    private final RestTemplate restTemplate = new RestTemplate();
+    private final RestTemplate restTemplate;
     private final ObjectMapper  objectMapper  = new ObjectMapper();
+    private final OAuthIdTokenVerifier idTokenVerifier;
+    private final LoginStageTimer loginStageTimer;
+
+    public GoogleService(OutboundRestTemplateFactory restTemplateFactory, OAuthIdTokenVerifier idTokenVerifier,
+                         LoginStageTimer loginStageTimer) {
+        this.idTokenVerifier = idTokenVerifier;
+        this.loginStageTimer = loginStageTimer;
+        this.restTemplate = restTemplateFactory.create("google");
+    }
 
     /**
      * 1) code → access/refresh 토큰 교환
-     * 2) access_token → userinfo(id, email) 조회
+     * 2) id_token 이 있으면 로컬 검증으로 id, email 확인 (없을 때만 userinfo 조회)
      */
     public GoogleUserInfoDTO getGoogleUserInfo(String code) throws Exception {
         // --- 1) Authorization Code → Token ---
@@ -53,8 +62,8 @@ public class GoogleService {
         HttpEntity<MultiValueMap<String, String>> tokenRequest =
                 new HttpEntity<>(tokenParams, tokenHeaders);
 
-        ResponseEntity<GoogleTokenResponseDTO> tokenResponse =
-                restTemplate.postForEntity(TOKEN_URL, tokenRequest, GoogleTokenResponseDTO.class);
+        ResponseEntity<GoogleTokenResponseDTO> tokenResponse = loginStageTimer.record("token_exchange",
+                () -> restTemplate.postForEntity(TOKEN_URL, tokenRequest, GoogleTokenResponseDTO.class));
 
         if (!tokenResponse.getStatusCode().is2xxSuccessful() || tokenResponse.getBody() == null) {
             log.error("Google OAuth 토큰 발급 실패: status={}", tokenResponse.getStatusCode());
@@ -62,13 +71,24 @@ public class GoogleService {
         }
         GoogleTokenResponseDTO tokenDto = tokenResponse.getBody();
 
-        // --- 2) access_token → UserInfo(id, email) ---
+        // --- 2) id_token → 공개키 검증 후 클레임 사용 (userinfo 호출 생략) ---
+        if (tokenDto.getId_token() != null) {
+            JWTClaimsSet claims = loginStageTimer.record("id_token_verify",
+                    () -> idTokenVerifier.verifyGoogleIdToken(tokenDto.getId_token()));
+            return GoogleUserInfoDTO.builder()
+                    .id(claims.getSubject())
+                    .email(claims.getStringClaim("email"))
+                    .refreshToken(tokenDto.getRefresh_token())
+                    .build();
+        }
+
+        // --- 2-1) id_token 이 없으면 access_token → UserInfo(id, email) ---
         HttpHeaders userHeaders = new HttpHeaders();
         userHeaders.setBearerAuth(tokenDto.getAccess_token());
         HttpEntity<Void> userRequest = new HttpEntity<>(userHeaders);
 
-        ResponseEntity<String> userInfoResponse =
-                restTemplate.exchange(USERINFO_URL, HttpMethod.GET, userRequest, String.class);
+        ResponseEntity<String> userInfoResponse = loginStageTimer.record("user_info",
+                () -> restTemplate.exchange(USERINFO_URL, HttpMethod.GET, userRequest, String.class));
 
         if (!userInfoResponse.getStatusCode().is2xxSuccessful() || userInfoResponse.getBody() == null) {
             log.error("Google 사용자 정보 조회 실패: status={}", userInfoResponse.getStatusCode());
@@ -1,11 +1,11 @@
 package com.rhkr8521.mapping.api.member.service;
 
 import com.rhkr8521.mapping.api.member.dto.KakaoUserInfoDTO;
+import com.rhkr8521.mapping.common.config.http.OutboundRestTemplateFactory;
 import com.rhkr8521.mapping.common.exception.InternalServerException;
 import com.rhkr8521.mapping.common.exception.UnauthorizedException;
 import com.rhkr8521.mapping.common.response.ErrorStatus;
 import com.fasterxml.jackson.databind.ObjectMapper;
-import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.http.*;
@@ -20,10 +20,9 @@ import java.util.Map;
 
 @Slf4j
 @Service
-@RequiredArgsConstructor
 public class KakaoService {
 
-    private final RestTemplate restTemplate = new RestTemplate();
+    private final RestTemplate restTemplate;
 
     @Value("${spring.security.oauth2.client.registration.kakao.client-id}")
     private String kakaoClientId;
@@ -37,6 +36,10 @@ public class KakaoService {
     @Value("${kakao.admin-key}")
     private String kakaoAdminKey;
 
+    public KakaoService(OutboundRestTemplateFactory restTemplateFactory) {
+        this.restTemplate = restTemplateFactory.create("kakao");
+    }
+
     // 카카오에서 인가 코드를 이용해 액세스 토큰을 받아오는 메서드
     public String getKakaoAccessToken(String code) {
         String url = "https://kauth.kakao.com/oauth/token";
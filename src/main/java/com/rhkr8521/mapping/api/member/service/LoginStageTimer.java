@@ -0,0 +1,135 @@
+package com.rhkr8521.mapping.api.member.service;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.env.Environment;
+import org.springframework.core.env.Profiles;
+import org.springframework.stereotype.Component;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+
+import java.util.LinkedHashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.StringJoiner;
+import java.util.concurrent.Callable;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+/**
+ * 소셜 로그인 단계별 소요 시간 측정
+ * - login.stage.duration{provider, stage} / login.duration{provider} 타이머로 기록
+ * - 운영(prod) 프로필이 아니고 설정이 켜져 있으면 Server-Timing 응답 헤더로도 내려줌
+ */
+@Component
+public class LoginStageTimer {
+
+    private static final String SERVER_TIMING_HEADER = "Server-Timing";
+
+    // 로그인 요청 처리 중인 스레드의 측정 정보 (로그인 흐름 밖에서는 비어 있음)
+    private final ThreadLocal<LoginTrace> currentTrace = new ThreadLocal<>();
+
+    private final MeterRegistry meterRegistry;
+    private final boolean serverTimingEnabled;
+
+    public LoginStageTimer(MeterRegistry meterRegistry, Environment environment,
+                           @Value("${login.timing.header.enabled:false}") boolean headerEnabled) {
+        this.meterRegistry = meterRegistry;
+        this.serverTimingEnabled = headerEnabled && !environment.acceptsProfiles(Profiles.of("prod"));
+    }
+
+    // 로그인 측정 시작 (반드시 finish 와 짝으로 호출)
+    public void begin(String provider) {
+        currentTrace.set(new LoginTrace(provider, System.nanoTime()));
+    }
+
+    // 로그인 측정 종료 후 전체 시간 기록 및 Server-Timing 헤더 추가
+    public void finish() {
+        LoginTrace trace = currentTrace.get();
+        if (trace == null) {
+            return;
+        }
+        currentTrace.remove();
+
+        long totalNanos = System.nanoTime() - trace.startedAt;
+        meterRegistry.timer("login.duration", "provider", trace.provider).record(totalNanos, TimeUnit.NANOSECONDS);
+        trace.stages.merge("total", totalNanos, Long::sum);
+
+        if (serverTimingEnabled) {
+            writeServerTiming(trace);
+        }
+    }
+
+    // 단계 실행 시간 측정 (로그인 흐름 밖에서 호출되면 실행만 함)
+    public <T> T record(String stage, Supplier<T> action) {
+        LoginTrace trace = currentTrace.get();
+        if (trace == null) {
+            return action.get();
+        }
+        long startedAt = System.nanoTime();
+        try {
+            return action.get();
+        } finally {
+            trace.record(stage, System.nanoTime() - startedAt);
+        }
+    }
+
+    public void run(String stage, Runnable action) {
+        record(stage, () -> {
+            action.run();
+            return null;
+        });
+    }
+
+    // 검사 예외를 던지는 외부 API 호출용
+    public <T> T recordChecked(String stage, Callable<T> action) throws Exception {
+        LoginTrace trace = currentTrace.get();
+        if (trace == null) {
+            return action.call();
+        }
+        long startedAt = System.nanoTime();
+        try {
+            return action.call();
+        } finally {
+            trace.record(stage, System.nanoTime() - startedAt);
+        }
+    }
+
+    private void writeServerTiming(LoginTrace trace) {
+        if (!(RequestContextHolder.getRequestAttributes() instanceof ServletRequestAttributes attributes)) {
+            return;
+        }
+        HttpServletResponse response = attributes.getResponse();
+        if (response == null || response.isCommitted()) {
+            return;
+        }
+
+        StringJoiner header = new StringJoiner(", ");
+        trace.stages.forEach((stage, nanos) ->
+                header.add(String.format(Locale.ROOT, "%s;dur=%.1f", stage, nanos / 1_000_000.0)));
+        response.addHeader(SERVER_TIMING_HEADER, header.toString());
+    }
+
+    private final class LoginTrace {
+        private final String provider;
+        private final long startedAt;
+        // 같은 단계가 여러 번 실행되면 합산
+        private final Map<String, Long> stages = new LinkedHashMap<>();
+
+        private LoginTrace(String provider, long startedAt) {
+            this.provider = provider;
+            this.startedAt = startedAt;
+        }
+
+        private void record(String stage, long nanos) {
+            stages.merge(stage, nanos, Long::sum);
+            Timer.builder("login.stage.duration")
+                    .tag("provider", provider)
+                    .tag("stage", stage)
+                    .register(meterRegistry)
+                    .record(nanos, TimeUnit.NANOSECONDS);
+        }
+    }
+}
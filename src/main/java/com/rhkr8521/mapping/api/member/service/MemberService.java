@@ -2,25 +2,34 @@ package com.rhkr8521.mapping.api.member.service;
 
 import com.rhkr8521.mapping.api.aws.s3.S3Service;
 import com.rhkr8521.mapping.api.member.dto.*;
+import com.rhkr8521.mapping.api.member.cache.BlockSetCache;
+import com.rhkr8521.mapping.api.member.cache.MemberProfile;
+import com.rhkr8521.mapping.api.member.cache.MemberProfileCache;
 import com.rhkr8521.mapping.api.member.entity.Member;
 import com.rhkr8521.mapping.api.member.entity.MemberBlock;
 import com.rhkr8521.mapping.api.member.entity.Role;
-import com.rhkr8521.mapping.api.member.jwt.service.JwtService;
+import com.rhkr8521.mapping.api.member.jwt.service.AccessTokenRevocationService;
+import com.rhkr8521.mapping.api.member.jwt.service.RefreshTokenService;
 import com.rhkr8521.mapping.api.member.repository.MemberBlockRepository;
 import com.rhkr8521.mapping.api.member.repository.MemberRepository;
 import com.rhkr8521.mapping.common.exception.BadRequestException;
-import com.rhkr8521.mapping.common.exception.InternalServerException;
 import com.rhkr8521.mapping.common.exception.NotFoundException;
 import com.rhkr8521.mapping.common.response.ErrorStatus;
+import com.rhkr8521.mapping.common.util.LongHashSet;
+import com.rhkr8521.mapping.common.util.TransactionUtils;
 import com.rhkr8521.mapping.slack.SlackNotificationService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 import org.springframework.web.multipart.MultipartFile;
 
 import java.io.IOException;
 import java.util.*;
+import java.util.function.Supplier;
 import java.util.stream.Collectors;
 
 @Slf4j
@@ -28,62 +37,61 @@ import java.util.stream.Collectors;
 @RequiredArgsConstructor
 public class MemberService {
 
+    // 회원가입 유니크 제약 위반 시 최대 시도 횟수
+    private static final int MAX_REGISTER_ATTEMPTS = 3;
+
     private final MemberRepository memberRepository;
-    private final JwtService jwtService;
+    private final RefreshTokenService refreshTokenService;
+    private final AccessTokenRevocationService accessTokenRevocationService;
     private final KakaoService kakaoService;
     private final S3Service s3Service;
     private final AppleService appleService;
     private final MemberBlockRepository memberBlockRepository;
+    private final BlockSetCache blockSetCache;
+    private final MemberProfileCache memberProfileCache;
     private final SlackNotificationService slackNotificationService;
     private final GoogleService googleService;
+    private final NicknameAllocator nicknameAllocator;
+    private final OAuthUnlinkService oAuthUnlinkService;
+    private final LoginStageTimer loginStageTimer;
+    private final TransactionTemplate transactionTemplate;
 
-    private static final List<String> FIRST_WORDS = Arrays.asList(
-            "멍청한", "빠른", "귀여운", "화난", "배고픈", "행복한", "똑똑한", "졸린", "심술궂은", "시끄러운",
-            "고요한", "차가운", "뜨거운", "용감한", "겁쟁이", "수줍은", "대담한", "게으른", "성실한", "조용한",
-            "활발한", "이상한", "웃긴", "짜증난", "애매한", "창의적인", "독특한", "신나는", "졸린", "수상한",
-            "무서운", "어리석은", "슬픈", "고마운", "느린", "적극적인", "부끄러운", "당당한", "예민한", "단순한"
-    );
-
-    private static final List<String> SECOND_WORDS = Arrays.asList(
-            "고양이", "강아지", "토끼", "사자", "호랑이", "펭귄", "코끼리", "여우", "늑대", "곰", "너구리",
-            "다람쥐", "치타", "하이에나", "고릴라", "캥거루", "햄스터", "카멜레온", "악어", "두더지", "수달",
-            "부엉이", "참새", "독수리", "오리", "거북이", "물개", "돌고래", "고래", "불가사리", "미어캣",
-            "해파리", "코알라", "낙타", "아기돼지", "강치", "이구아나", "오징어", "문어", "갈매기", "오소리"
-    );
-
-    private static String generateRandomNickname() {
-        Random random = new Random();
-
-        // 첫 번째 단어(형용사)와 두 번째 단어(명사)를 랜덤 선택
-        String firstWord = FIRST_WORDS.get(random.nextInt(FIRST_WORDS.size()));
-        String secondWord = SECOND_WORDS.get(random.nextInt(SECOND_WORDS.size()));
-
-        // 두 자리 숫자 생성 (00~99)
-        int randomNumber = random.nextInt(100); // 0~99
-        String formattedNumber = String.format("%02d", randomNumber); // 두 자리로 변환 (ex: 03, 57)
+    @Value("${member.profile.lookup.max-size:100}")
+    private int maxProfileLookupSize;
 
-        return firstWord + secondWord + "#" + formattedNumber;
+    // 외부 API 호출은 트랜잭션 밖에서 처리 (느린 제공자 응답 동안 DB 연결을 잡고 있지 않도록)
+    public Map<String, Object> loginWithKakao(String kakaoAccessToken) {
+        loginStageTimer.begin("kakao");
+        try {
+            // 카카오 Access Token을 이용해 사용자 정보 가져오기
+            KakaoUserInfoDTO kakaoUserInfo = loginStageTimer.record("user_info",
+                    () -> kakaoService.getKakaoUserInfo(kakaoAccessToken));
+
+            // 사용자 정보 저장 및 엑세스,리프레시 토큰 생성
+            return completeLogin(() -> registerOrLoginKakaoUser(kakaoUserInfo));
+        } finally {
+            loginStageTimer.finish();
+        }
     }
 
-    private String generateUniqueRandomNickname() {
-        String nickname;
-        // 중복되지 않는 닉네임이 생성될 때까지 반복
-        do {
-            nickname = generateRandomNickname();
-        } while (memberRepository.existsByNickname(nickname));
-        return nickname;
+    // 회원가입/로그인 처리와 토큰 발급을 한 트랜잭션에서 처리 (단계별 시간 측정)
+    // - 다른 인스턴스와 같은 닉네임을 할당했거나 같은 회원이 동시에 가입한 경우 유니크 제약 위반으로 롤백되므로 다시 시도
+    private Map<String, Object> completeLogin(Supplier<Member> registerOrLogin) {
+        for (int attempt = 1; ; attempt++) {
+            try {
+                return transactionTemplate.execute(status -> loginResponse(loginStageTimer.record("register", registerOrLogin)));
+            } catch (DataIntegrityViolationException e) {
+                if (attempt >= MAX_REGISTER_ATTEMPTS) {
+                    throw e;
+                }
+                log.warn("회원가입 유니크 제약 위반으로 재시도 ({}/{})", attempt, MAX_REGISTER_ATTEMPTS);
+            }
+        }
     }
 
-    @Transactional
-    public Map<String, Object> loginWithKakao(String kakaoAccessToken) {
-        // 카카오 Access Token을 이용해 사용자 정보 가져오기
-        KakaoUserInfoDTO kakaoUserInfo = kakaoService.getKakaoUserInfo(kakaoAccessToken);
-
-        // 사용자 정보를 저장
-        Member member = registerOrLoginKakaoUser(kakaoUserInfo);
-
-        // 엑세스,리프레시 토큰 생성
-        Map<String, String> tokens = jwtService.createAccessAndRefreshToken(member.getEmail());
+    // 회원 정보와 새로 발급한 토큰으로 로그인 응답 구성
+    private Map<String, Object> loginResponse(Member member) {
+        Map<String, String> tokens = loginStageTimer.record("token_issue", () -> refreshTokenService.issue(member));
 
         Map<String, Object> response = new HashMap<>();
         response.put("tokens", tokens);
@@ -91,7 +99,6 @@ public class MemberService {
         response.put("nickname", member.getNickname());
         response.put("profileImage", member.getImageUrl());
         response.put("socialId", member.getSocialId());
-
         return response;
     }
 
@@ -109,6 +116,8 @@ public class MemberService {
                         .deletedAt(null)
                         .build();
                 memberRepository.save(member);
+                memberProfileCache.evict(member.getId());
+                oAuthUnlinkService.cancel(member.getId());
             }
             return member;
         } else {
@@ -123,7 +132,7 @@ public class MemberService {
         Member member = Member.builder()
                 .socialId(kakaoUserInfo.getId())
                 .email(UUID.randomUUID() + "@socialUser.com")
-                .nickname(generateUniqueRandomNickname())
+                .nickname(allocateNickname())
                 .imageUrl(kakaoUserInfo.getProfileImage())
                 .role(Role.USER)
                 .deleted(false)
@@ -133,33 +142,29 @@ public class MemberService {
                 .build();
 
         memberRepository.save(member);
+        memberProfileCache.evict(member.getId());
 
-        slackNotificationService.sendMemberRegistrationMessage(member.getId());
+        notifyRegistration(member.getId());
         return member;
     }
 
-    @Transactional
     public Map<String, Object> loginWithApple(String code) {
         if (code == null || code.isEmpty()) {
             throw new BadRequestException(ErrorStatus.MISSING_OAUTH2_AUTHORIZATION_CODE_EXCEPTION.getMessage());
         }
-        AppleLoginDTO appleInfo;
+        loginStageTimer.begin("apple");
         try {
-            appleInfo = appleService.getAppleInfo(code);
-        } catch (Exception e) {
-            throw new BadRequestException(ErrorStatus.FAIL_ACCESS_APPLE_OAUTH_SERVICE.getMessage() + e.getMessage());
+            AppleLoginDTO appleInfo;
+            try {
+                appleInfo = appleService.getAppleInfo(code);
+            } catch (Exception e) {
+                throw new BadRequestException(ErrorStatus.FAIL_ACCESS_APPLE_OAUTH_SERVICE.getMessage() + e.getMessage());
+            }
+            // Apple 사용자 정보를 통한 회원가입 또는 로그인 처리 및 JWT 토큰 발급
+            return completeLogin(() -> registerOrLoginAppleUser(appleInfo));
+        } finally {
+            loginStageTimer.finish();
         }
-        // Apple 사용자 정보를 통한 회원가입 또는 로그인 처리
-        Member member = registerOrLoginAppleUser(appleInfo);
-        // JWT 토큰 발급
-        Map<String, String> tokens = jwtService.createAccessAndRefreshToken(member.getEmail());
-        Map<String, Object> response = new HashMap<>();
-        response.put("tokens", tokens);
-        response.put("role", member.getRole());
-        response.put("nickname", member.getNickname());
-        response.put("profileImage", member.getImageUrl());
-        response.put("socialId", member.getSocialId());
-        return response;
     }
 
     // 애플 사용자 정보를 사용해 회원가입 또는 로그인 처리
@@ -177,13 +182,15 @@ public class MemberService {
                         .email(appleUserInfo.getEmail())
                         .build();
                 memberRepository.save(member);
+                memberProfileCache.evict(member.getId());
+                oAuthUnlinkService.cancel(member.getId());
             }
             return member;
         } else {
             Member member = Member.builder()
                     .socialId(appleUserInfo.getId())
                     .email(appleUserInfo.getEmail() != null ? appleUserInfo.getEmail() : UUID.randomUUID() + "@socialUser.com")
-                    .nickname(generateUniqueRandomNickname())
+                    .nickname(allocateNickname())
                     .imageUrl(null)
                     .role(Role.USER)
                     .deleted(false)
@@ -192,13 +199,13 @@ public class MemberService {
                     .oauthRefreshToken(appleUserInfo.getRefreshToken())
                     .build();
             memberRepository.save(member);
-            slackNotificationService.sendMemberRegistrationMessage(member.getId());
+            memberProfileCache.evict(member.getId());
+            notifyRegistration(member.getId());
             return member;
         }
     }
 
     // 구글 사용자 정보를 사용해 회원가입 또는 로그인 처리
-    @Transactional
     public Map<String, Object> loginWithGoogle(String code) {
         if (code == null || code.isEmpty()) {
             throw new BadRequestException(
@@ -206,26 +213,22 @@ public class MemberService {
             );
         }
 
-        GoogleUserInfoDTO googleInfo;
+        loginStageTimer.begin("google");
         try {
-            googleInfo = googleService.getGoogleUserInfo(code);
-        } catch (Exception e) {
-            log.error("Google OAuth 처리 실패", e);
-            throw new BadRequestException(
-                    ErrorStatus.MISSING_OAUTH2_AUTHORIZATION_CODE_EXCEPTION.getMessage() + ": " + e.getMessage()
-            );
-        }
-
-        Member member = registerOrLoginGoogleUser(googleInfo);
-        Map<String, String> tokens = jwtService.createAccessAndRefreshToken(member.getEmail());
+            GoogleUserInfoDTO googleInfo;
+            try {
+                googleInfo = googleService.getGoogleUserInfo(code);
+            } catch (Exception e) {
+                log.error("Google OAuth 처리 실패", e);
+                throw new BadRequestException(
+                        ErrorStatus.MISSING_OAUTH2_AUTHORIZATION_CODE_EXCEPTION.getMessage() + ": " + e.getMessage()
+                );
+            }
 
-        Map<String, Object> resp = new HashMap<>();
-        resp.put("tokens",       tokens);
-        resp.put("role",         member.getRole());
-        resp.put("nickname",     member.getNickname());
-        resp.put("profileImage", member.getImageUrl());
-        resp.put("socialId",     member.getSocialId());
-        return resp;
+            return completeLogin(() -> registerOrLoginGoogleUser(googleInfo));
+        } finally {
+            loginStageTimer.finish();
+        }
     }
 
     @Transactional
@@ -240,6 +243,8 @@ public class MemberService {
                         .oauthRefreshToken(info.getRefreshToken())
                         .email(info.getEmail())
                         .build();
+                memberProfileCache.evict(exist.getId());
+                oAuthUnlinkService.cancel(exist.getId());
                 return memberRepository.save(restored);
             }
             return exist;
@@ -249,7 +254,7 @@ public class MemberService {
                     .email(info.getEmail() != null
                             ? info.getEmail()
                             : UUID.randomUUID() + "@socialUser.com")
-                    .nickname(generateUniqueRandomNickname())
+                    .nickname(allocateNickname())
                     .role(Role.USER)
                     .deleted(false)
                     .deletedAt(null)
@@ -257,26 +262,32 @@ public class MemberService {
                     .oauthRefreshToken(info.getRefreshToken())
                     .build();
             memberRepository.save(member);
-            slackNotificationService.sendMemberRegistrationMessage(member.getId());
+            memberProfileCache.evict(member.getId());
+            notifyRegistration(member.getId());
             return member;
         }
     }
 
-    @Transactional(readOnly = true)
-    public Long getUserIdByEmail(String email) {
-        Member member = memberRepository.findByEmail(email)
-                .orElseThrow(() -> new NotFoundException(ErrorStatus.USER_NOTFOUND_EXCEPTION.getMessage()));
-        return member.getId();
-    }
-
     @Transactional
     public void changeNickname(Long userId, String nickname) {
         // 유저 조회 및 닉네임 변경 로직
         Member member = memberRepository.findById(userId)
                 .orElseThrow(() -> new NotFoundException(ErrorStatus.USER_NOTFOUND_EXCEPTION.getMessage()));
 
+        // 다른 사용자가 사용 중인 닉네임이면 예외처리
+        if (!nickname.equals(member.getNickname()) && memberRepository.existsByNickname(nickname)) {
+            throw new BadRequestException(ErrorStatus.DUPLICATE_NICKNAME.getMessage());
+        }
+
         Member updatedMember = member.updateNickname(nickname);
         memberRepository.save(updatedMember); // Member 객체 반환
+        memberProfileCache.evict(userId);
+
+        // 닉네임 할당기 반영
+        if (!nickname.equals(member.getNickname())) {
+            nicknameAllocator.markUsed(nickname);
+            nicknameAllocator.release(member.getNickname());
+        }
     }
 
     @Transactional
@@ -293,6 +304,26 @@ public class MemberService {
 
         Member updatedMember = member.updateImageUrl(imageUrl);
         memberRepository.save(updatedMember);
+        memberProfileCache.evict(userId);
+    }
+
+    // 사용자 공개 프로필 일괄 조회 (요청 순서 유지, 중복 제거, 캐시에 없는 사용자만 IN 쿼리 1회)
+    public List<UserProfileResponseDTO> getUserProfiles(List<Long> userIds) {
+        if (userIds == null || userIds.isEmpty()) {
+            throw new BadRequestException(ErrorStatus.MISSING_USER_IDS.getMessage());
+        }
+
+        Set<Long> distinctIds = new LinkedHashSet<>(userIds);
+        distinctIds.remove(null);
+        if (distinctIds.size() > maxProfileLookupSize) {
+            throw new BadRequestException(ErrorStatus.TOO_MANY_USER_IDS.getMessage());
+        }
+
+        Map<Long, MemberProfile> profiles = memberProfileCache.getAll(distinctIds);
+        return distinctIds.stream()
+                .map(profiles::get)
+                .map(UserProfileResponseDTO::from)
+                .collect(Collectors.toList());
     }
 
     // 사용자 정보 조회
@@ -306,6 +337,7 @@ public class MemberService {
     }
 
     // 사용자 탈퇴
+    // - 소셜 연결 해제는 작업 큐에 저장하고 바로 커밋 (제공자 장애와 무관하게 탈퇴 완료, 해제는 백그라운드에서 재시도)
     @Transactional
     public void withdrawMember(Long userId) {
         Member member = memberRepository.findById(userId)
@@ -315,46 +347,16 @@ public class MemberService {
             throw new BadRequestException(ErrorStatus.ALREADY_DELETE_USER_EXCEPTION.getMessage());
         }
 
-        // 카카오 소셜 계정의 경우 앱 연결 해제 진행
-        if ("KAKAO".equalsIgnoreCase(member.getSocialType())) {
-            try {
-                kakaoService.unlinkKakaoUser(member.getSocialId());
-            } catch (Exception e) {
-                throw new InternalServerException(ErrorStatus.FAIL_UNLINK_OAUTH2_EXCEPTION.getMessage() + e.getMessage());
-            }
-        }
-        // 애플 소셜 계정의 경우 앱 연결 해제 진행 (리프레시 토큰을 통해 엑세스 토큰 재발급)
-        else if ("APPLE".equalsIgnoreCase(member.getSocialType())) {
-            String appleRefreshToken = member.getOauthRefreshToken();
-            if (appleRefreshToken == null || appleRefreshToken.isEmpty()) {
-                throw new InternalServerException(ErrorStatus.MISSING_OAUTH_REFRESH_TOKEN.getMessage());
-            }
-            try {
-                String appleAccessToken = appleService.refreshAppleAccessToken(appleRefreshToken);
-                appleService.unlinkAppleUser(appleAccessToken);
-            } catch (Exception e) {
-                throw new InternalServerException(ErrorStatus.FAIL_UNLINK_OAUTH2_EXCEPTION.getMessage());
-            }
-        }
-        // 구글 소셜 계정의 경우 앱 연결 해제 진행 (리프레시 토큰을 통해 엑세스 토큰 재발급)
-        else if ("GOOGLE".equalsIgnoreCase(member.getSocialType())) {
-            String googleRefreshToken = member.getOauthRefreshToken();
-            // 리프레시토큰이 없으면 서버 탈퇴 로직만 수행
-            if (googleRefreshToken != null && !googleRefreshToken.isEmpty()) {
-                try {
-                    // 리프레시 토큰으로 액세스토큰 재발급
-                    String accessToken = googleService.refreshGoogleAccessToken(googleRefreshToken);
-                    // 구글에 revoke 요청
-                    googleService.unlinkGoogleUser(accessToken);
-                } catch (Exception e) {
-                    throw new InternalServerException(ErrorStatus.FAIL_UNLINK_OAUTH2_EXCEPTION.getMessage());
-                }
-            }
-        }
-
         // 논리적 삭제 처리 및 개인정보 익명화
         Member updatedMember = member.markAsDeleted();
         memberRepository.save(updatedMember);
+        memberProfileCache.evict(userId);
+        refreshTokenService.revokeAll(userId);
+        // 다른 기기에서 발급된 Access Token 도 만료 전까지 모든 인스턴스에서 거부
+        accessTokenRevocationService.revokeAll(userId);
+
+        // 카카오/애플/구글 앱 연결 해제 작업 등록
+        oAuthUnlinkService.enqueue(updatedMember);
     }
 
     // 사용자 차단
@@ -378,6 +380,7 @@ public class MemberService {
                 .build();
 
         memberBlockRepository.save(memberBlock);
+        blockSetCache.evict(blockerId, blockedId);
     }
 
     // 차단 사용자 목록 조회
@@ -413,25 +416,25 @@ public class MemberService {
                 .orElseThrow(() -> new BadRequestException(ErrorStatus.NOT_BLOCK_USER_EXCEPTION.getMessage()));
 
         memberBlockRepository.delete(memberBlock);
+        blockSetCache.evict(blockerId, blockedId);
     }
 
-    // 내부에서 사용하기 위한 차단 사용자 목록 조회 메서드
-    private List<Member> getBlockedUsersInternal(Long blockerId) {
-        Member blocker = memberRepository.findById(blockerId)
-                .orElseThrow(() -> new NotFoundException(ErrorStatus.USER_NOTFOUND_EXCEPTION.getMessage()));
-        return memberBlockRepository.findByBlocker(blocker)
-                .stream()
-                .map(MemberBlock::getBlocked)
-                .collect(Collectors.toList());
+    // 차단 사용자 ID 셋 조회 (캐시된 셋이므로 수정하지 않음)
+    public LongHashSet getBlockedUserIds(Long blockerId) {
+        return blockSetCache.getBlockedIds(blockerId);
     }
 
-    @Transactional(readOnly = true)
-    public List<Long> getBlockedUserIds(Long blockerId) {
-        return getBlockedUsersInternal(blockerId)
-                .stream()
-                .map(Member::getId)
-                .collect(Collectors.toList());
+    // 신규 가입자 닉네임 할당 (로그인 단계 시간 측정)
+    // - 가입 트랜잭션이 롤백되면(유니크 제약 위반 재시도 포함) 예약한 조합을 반환
+    private String allocateNickname() {
+        String nickname = loginStageTimer.record("nickname", nicknameAllocator::allocate);
+        TransactionUtils.runAfterRollback(() -> nicknameAllocator.release(nickname));
+        return nickname;
     }
 
-
+    // 가입 알림은 커밋 후 전송 (슬랙 호출 동안 트랜잭션을 잡고 있지 않도록)
+    private void notifyRegistration(Long memberId) {
+        TransactionUtils.runAfterCommit(() -> loginStageTimer.run("slack",
+                () -> slackNotificationService.sendMemberRegistrationMessage(memberId)));
+    }
 }
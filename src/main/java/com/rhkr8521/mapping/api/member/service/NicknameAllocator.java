@@ -0,0 +1,168 @@
+package com.rhkr8521.mapping.api.member.service;
+
+import com.rhkr8521.mapping.api.member.repository.MemberRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+
+import java.util.*;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * 랜덤 닉네임(형용사 + 동물 + "#" + 두 자리 숫자) 할당기
+ * - 사용 중인 조합을 BitSet 으로 관리해 빈 조합을 바로 찾음 (애플리케이션 시작 시 DB 에서 한 번 로딩)
+ * - 조합이 모두 소진되면 여섯 자리 숫자 형식으로 확장
+ * - 잠금은 BitSet 에서 후보를 예약하는 동안만 잡고, 다른 인스턴스에서 먼저 할당했는지 확인하는 DB 조회는 잠금 밖에서 처리
+ * - 최종적으로는 member.nickname 유니크 인덱스가 중복을 막고, 위반 시 가입을 다시 시도 (MemberService)
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class NicknameAllocator {
+
+    private static final List<String> FIRST_WORDS = distinct(
+            "멍청한", "빠른", "귀여운", "화난", "배고픈", "행복한", "똑똑한", "졸린", "심술궂은", "시끄러운",
+            "고요한", "차가운", "뜨거운", "용감한", "겁쟁이", "수줍은", "대담한", "게으른", "성실한", "조용한",
+            "활발한", "이상한", "웃긴", "짜증난", "애매한", "창의적인", "독특한", "신나는", "졸린", "수상한",
+            "무서운", "어리석은", "슬픈", "고마운", "느린", "적극적인", "부끄러운", "당당한", "예민한", "단순한"
+    );
+
+    private static final List<String> SECOND_WORDS = distinct(
+            "고양이", "강아지", "토끼", "사자", "호랑이", "펭귄", "코끼리", "여우", "늑대", "곰", "너구리",
+            "다람쥐", "치타", "하이에나", "고릴라", "캥거루", "햄스터", "카멜레온", "악어", "두더지", "수달",
+            "부엉이", "참새", "독수리", "오리", "거북이", "물개", "돌고래", "고래", "불가사리", "미어캣",
+            "해파리", "코알라", "낙타", "아기돼지", "강치", "이구아나", "오징어", "문어", "갈매기", "오소리"
+    );
+
+    private static final int NUMBER_RANGE = 100; // 00~99
+    private static final int WIDE_NUMBER_RANGE = 1_000_000; // 000000~999999
+    private static final int SPACE = FIRST_WORDS.size() * SECOND_WORDS.size() * NUMBER_RANGE;
+
+    // "형용사동물" -> 단어 조합 번호 (닉네임 문자열을 BitSet 위치로 되돌리기 위함)
+    private static final Map<String, Integer> PREFIX_INDEX = buildPrefixIndex();
+
+    private final MemberRepository memberRepository;
+
+    private final BitSet used = new BitSet(SPACE);
+
+    // 사용 중인 조합 로딩 (로딩 전에 할당된 닉네임은 DB 확인과 유니크 인덱스로 중복을 막음)
+    @EventListener(ApplicationReadyEvent.class)
+    public void load() {
+        BitSet loaded = new BitSet(SPACE);
+        for (String nickname : memberRepository.findAllGeneratedNicknames()) {
+            int index = indexOf(nickname);
+            if (index >= 0) {
+                loaded.set(index);
+            }
+        }
+
+        int usedCount;
+        synchronized (this) {
+            used.or(loaded);
+            usedCount = used.cardinality();
+        }
+        log.info("닉네임 할당기 로딩 완료 (사용 중 {}/{})", usedCount, SPACE);
+    }
+
+    // 사용되지 않은 닉네임 할당
+    public String allocate() {
+        while (true) {
+            int index = reserve();
+            if (index < 0) {
+                return allocateWide();
+            }
+
+            String nickname = format(index);
+            // 다른 인스턴스에서 이미 사용한 조합이면 표시만 남기고 다시 선택
+            if (!memberRepository.existsByNickname(nickname)) {
+                return nickname;
+            }
+        }
+    }
+
+    // 사용자가 직접 정한 닉네임이 조합 형식이면 사용 중으로 표시
+    public synchronized void markUsed(String nickname) {
+        int index = indexOf(nickname);
+        if (index >= 0) {
+            used.set(index);
+        }
+    }
+
+    // 더 이상 쓰지 않는 닉네임 반환 (닉네임 변경, 회원 영구 삭제)
+    public synchronized void release(String nickname) {
+        int index = indexOf(nickname);
+        if (index >= 0) {
+            used.clear(index);
+        }
+    }
+
+    // 빈 조합을 하나 골라 사용 중으로 표시 (모두 소진되면 -1)
+    private synchronized int reserve() {
+        int start = ThreadLocalRandom.current().nextInt(SPACE);
+        int index = used.nextClearBit(start);
+        if (index >= SPACE) {
+            index = used.nextClearBit(0);
+        }
+        if (index >= SPACE) {
+            return -1;
+        }
+
+        used.set(index);
+        return index;
+    }
+
+    // 두 자리 조합이 모두 소진된 경우 여섯 자리 숫자 형식으로 할당
+    private String allocateWide() {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        String nickname;
+        do {
+            nickname = FIRST_WORDS.get(random.nextInt(FIRST_WORDS.size()))
+                    + SECOND_WORDS.get(random.nextInt(SECOND_WORDS.size()))
+                    + "#" + String.format("%06d", random.nextInt(WIDE_NUMBER_RANGE));
+        } while (memberRepository.existsByNickname(nickname));
+        return nickname;
+    }
+
+    private static String format(int index) {
+        int number = index % NUMBER_RANGE;
+        int combination = index / NUMBER_RANGE;
+        String firstWord = FIRST_WORDS.get(combination / SECOND_WORDS.size());
+        String secondWord = SECOND_WORDS.get(combination % SECOND_WORDS.size());
+        return firstWord + secondWord + "#" + String.format("%02d", number);
+    }
+
+    // 조합 형식의 닉네임이면 BitSet 위치, 아니면 -1
+    private static int indexOf(String nickname) {
+        if (nickname == null) {
+            return -1;
+        }
+        int hash = nickname.lastIndexOf('#');
+        if (hash < 0 || nickname.length() - hash != 3) {
+            return -1;
+        }
+        Integer combination = PREFIX_INDEX.get(nickname.substring(0, hash));
+        char tens = nickname.charAt(hash + 1);
+        char ones = nickname.charAt(hash + 2);
+        if (combination == null || tens < '0' || tens > '9' || ones < '0' || ones > '9') {
+            return -1;
+        }
+        return combination * NUMBER_RANGE + (tens - '0') * 10 + (ones - '0');
+    }
+
+    private static Map<String, Integer> buildPrefixIndex() {
+        Map<String, Integer> index = new HashMap<>();
+        for (int i = 0; i < FIRST_WORDS.size(); i++) {
+            for (int j = 0; j < SECOND_WORDS.size(); j++) {
+                index.put(FIRST_WORDS.get(i) + SECOND_WORDS.get(j), i * SECOND_WORDS.size() + j);
+            }
+        }
+        return index;
+    }
+
+    // 단어 목록의 중복 제거 (같은 닉네임이 두 위치에 대응되지 않도록)
+    private static List<String> distinct(String... words) {
+        return List.copyOf(new LinkedHashSet<>(Arrays.asList(words)));
+    }
+}
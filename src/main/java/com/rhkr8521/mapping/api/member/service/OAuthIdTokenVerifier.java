@@ -0,0 +1,177 @@
+package com.rhkr8521.mapping.api.member.service;
+
+import com.nimbusds.jose.JOSEException;
+import com.nimbusds.jose.JWSAlgorithm;
+import com.nimbusds.jose.JWSVerifier;
+import com.nimbusds.jose.crypto.RSASSAVerifier;
+import com.nimbusds.jose.jwk.JWK;
+import com.nimbusds.jose.jwk.JWKSet;
+import com.nimbusds.jose.jwk.RSAKey;
+import com.nimbusds.jwt.JWTClaimsSet;
+import com.nimbusds.jwt.SignedJWT;
+import com.rhkr8521.mapping.common.config.http.OutboundRestTemplateFactory;
+import com.rhkr8521.mapping.common.exception.UnauthorizedException;
+import com.rhkr8521.mapping.common.response.ErrorStatus;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.web.client.RestTemplate;
+
+import java.text.ParseException;
+import java.util.*;
+
+/**
+ * Apple / Google id_token 을 공개키(JWKS)로 직접 검증
+ * - 공개키는 처음 필요할 때 받아 메모리에 보관하고, 모르는 kid 가 오면 다시 받음 (최소 간격 제한)
+ * - 서명, 발급자(iss), 대상(aud), 만료(exp)를 확인한 클레임을 한 번만 파싱해 반환
+ */
+@Slf4j
+@Service
+public class OAuthIdTokenVerifier {
+
+    private static final String APPLE_JWKS_URL = "https://appleid.apple.com/auth/keys";
+    private static final String GOOGLE_JWKS_URL = "https://www.googleapis.com/oauth2/v3/certs";
+
+    private static final Set<String> APPLE_ISSUERS = Set.of("https://appleid.apple.com");
+    private static final Set<String> GOOGLE_ISSUERS = Set.of("https://accounts.google.com", "accounts.google.com");
+
+    private final JwksKeys appleKeys;
+    private final JwksKeys googleKeys;
+    private final String appleClientId;
+    private final String googleClientId;
+    private final long clockSkewMillis;
+
+    public OAuthIdTokenVerifier(OutboundRestTemplateFactory restTemplateFactory,
+                                @Value("${spring.security.oauth2.client.registration.apple.clientId}") String appleClientId,
+                                @Value("${spring.security.oauth2.client.registration.google.client-id}") String googleClientId,
+                                @Value("${social-login.jwks.min-refresh-interval-ms:60000}") long minRefreshIntervalMillis,
+                                @Value("${social-login.jwks.max-age-ms:21600000}") long maxAgeMillis,
+                                @Value("${social-login.id-token.clock-skew-ms:60000}") long clockSkewMillis) {
+        this.appleKeys = new JwksKeys(restTemplateFactory.create("apple"), APPLE_JWKS_URL, minRefreshIntervalMillis, maxAgeMillis);
+        this.googleKeys = new JwksKeys(restTemplateFactory.create("google"), GOOGLE_JWKS_URL, minRefreshIntervalMillis, maxAgeMillis);
+        this.appleClientId = appleClientId;
+        this.googleClientId = googleClientId;
+        this.clockSkewMillis = clockSkewMillis;
+    }
+
+    // Apple id_token 검증 후 클레임 반환
+    public JWTClaimsSet verifyAppleIdToken(String idToken) {
+        return verify(idToken, appleKeys, APPLE_ISSUERS, appleClientId);
+    }
+
+    // Google id_token 검증 후 클레임 반환
+    public JWTClaimsSet verifyGoogleIdToken(String idToken) {
+        return verify(idToken, googleKeys, GOOGLE_ISSUERS, googleClientId);
+    }
+
+    private JWTClaimsSet verify(String idToken, JwksKeys keys, Set<String> issuers, String audience) {
+        if (idToken == null || idToken.isEmpty()) {
+            throw invalid("id_token 이 없습니다.");
+        }
+
+        try {
+            SignedJWT jwt = SignedJWT.parse(idToken);
+
+            // 두 제공자 모두 RS256 으로 서명 (alg 바꿔치기 방지)
+            if (!JWSAlgorithm.RS256.equals(jwt.getHeader().getAlgorithm())) {
+                throw invalid("지원하지 않는 서명 알고리즘: " + jwt.getHeader().getAlgorithm());
+            }
+
+            JWSVerifier verifier = keys.getVerifier(jwt.getHeader().getKeyID());
+            if (verifier == null) {
+                throw invalid("알 수 없는 kid: " + jwt.getHeader().getKeyID());
+            }
+            if (!jwt.verify(verifier)) {
+                throw invalid("서명 불일치");
+            }
+
+            JWTClaimsSet claims = jwt.getJWTClaimsSet();
+            long now = System.currentTimeMillis();
+
+            if (claims.getIssuer() == null || !issuers.contains(claims.getIssuer())) {
+                throw invalid("발급자 불일치: " + claims.getIssuer());
+            }
+            if (claims.getAudience() == null || !claims.getAudience().contains(audience)) {
+                throw invalid("대상 불일치: " + claims.getAudience());
+            }
+            if (claims.getExpirationTime() == null || claims.getExpirationTime().getTime() + clockSkewMillis < now) {
+                throw invalid("만료된 토큰");
+            }
+            if (claims.getIssueTime() != null && claims.getIssueTime().getTime() - clockSkewMillis > now) {
+                throw invalid("발급 시각이 미래입니다.");
+            }
+            if (claims.getSubject() == null) {
+                throw invalid("sub 클레임이 없습니다.");
+            }
+            return claims;
+        } catch (ParseException | JOSEException e) {
+            throw invalid(e.getMessage());
+        }
+    }
+
+    private UnauthorizedException invalid(String reason) {
+        log.debug("id_token 검증 실패: {}", reason);
+        return new UnauthorizedException(ErrorStatus.INVALID_OAUTH_ID_TOKEN_EXCEPTION.getMessage());
+    }
+
+    /**
+     * 제공자 하나의 JWKS 공개키 캐시 (kid → 서명 검증기)
+     */
+    private static final class JwksKeys {
+
+        private final RestTemplate restTemplate;
+        private final String jwksUrl;
+        private final long minRefreshIntervalMillis;
+        private final long maxAgeMillis;
+
+        private volatile Map<String, JWSVerifier> verifiers = Map.of();
+        private volatile long fetchedAt;
+        private long lastAttemptAt;
+
+        private JwksKeys(RestTemplate restTemplate, String jwksUrl, long minRefreshIntervalMillis, long maxAgeMillis) {
+            this.restTemplate = restTemplate;
+            this.jwksUrl = jwksUrl;
+            this.minRefreshIntervalMillis = minRefreshIntervalMillis;
+            this.maxAgeMillis = maxAgeMillis;
+        }
+
+        private JWSVerifier getVerifier(String kid) {
+            if (kid == null) {
+                return null;
+            }
+            JWSVerifier verifier = verifiers.get(kid);
+            if (verifier != null && System.currentTimeMillis() - fetchedAt < maxAgeMillis) {
+                return verifier;
+            }
+
+            // 키가 교체되었거나 오래된 경우에만 다시 받음
+            refresh();
+            JWSVerifier refreshed = verifiers.get(kid);
+            // 갱신에 실패했으면 기존 키로 계속 검증
+            return refreshed != null ? refreshed : verifier;
+        }
+
+        // 모르는 kid 를 계속 보내는 요청이 제공자 호출로 이어지지 않도록 최소 간격을 둠
+        private synchronized void refresh() {
+            long now = System.currentTimeMillis();
+            if (now - lastAttemptAt < minRefreshIntervalMillis) {
+                return;
+            }
+            lastAttemptAt = now;
+
+            try {
+                JWKSet jwkSet = JWKSet.parse(restTemplate.getForObject(jwksUrl, String.class));
+                Map<String, JWSVerifier> loaded = new HashMap<>();
+                for (JWK jwk : jwkSet.getKeys()) {
+                    if (jwk instanceof RSAKey rsaKey && jwk.getKeyID() != null) {
+                        loaded.put(jwk.getKeyID(), new RSASSAVerifier(rsaKey));
+                    }
+                }
+                verifiers = Map.copyOf(loaded);
+                fetchedAt = now;
+            } catch (Exception e) {
+                log.warn("JWKS 조회 실패 ({}): {}", jwksUrl, e.getMessage());
+            }
+        }
+    }
+}
@@ -0,0 +1,209 @@
+package com.rhkr8521.mapping.api.member.service;
+
+import com.rhkr8521.mapping.api.member.entity.Member;
+import com.rhkr8521.mapping.api.member.entity.OAuthUnlinkTask;
+import com.rhkr8521.mapping.api.member.repository.MemberRepository;
+import com.rhkr8521.mapping.api.member.repository.OAuthUnlinkTaskRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.client.HttpClientErrorException;
+
+import java.time.LocalDateTime;
+import java.util.*;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * 탈퇴 회원의 소셜 계정 연결 해제 작업 큐
+ * - 탈퇴는 작업만 저장하고 바로 커밋, 실제 해제는 스케줄러가 트랜잭션 밖에서 호출
+ * - 일시적인 실패는 지수 백오프로 재시도하고, 제공자가 거절한 요청(4xx)은 재시도를 중단
+ */
+@Slf4j
+@Service
+public class OAuthUnlinkService {
+
+    private static final int MAX_ERROR_LENGTH = 500;
+
+    private final OAuthUnlinkTaskRepository oAuthUnlinkTaskRepository;
+    private final MemberRepository memberRepository;
+    private final KakaoService kakaoService;
+    private final AppleService appleService;
+    private final GoogleService googleService;
+    private final TransactionTemplate transactionTemplate;
+    private final MeterRegistry meterRegistry;
+
+    @Value("${oauth.unlink.batch-size:50}")
+    private int batchSize;
+
+    // 작업기가 작업 한 건을 점유하는 시간 (이 시간 안에 끝나지 않으면 다른 작업기가 다시 처리)
+    // 한 작업의 최대 외부 호출 시간(애플/구글은 재발급 + 해제 2회, 호출당 연결 대기 + 연결 + 응답 타임아웃)보다 충분히 길게
+    @Value("${oauth.unlink.lease-ms:120000}")
+    private long leaseMillis;
+
+    @Value("${oauth.unlink.backoff.initial-ms:30000}")
+    private long initialBackoffMillis;
+
+    @Value("${oauth.unlink.backoff.max-ms:21600000}")
+    private long maxBackoffMillis;
+
+    public OAuthUnlinkService(OAuthUnlinkTaskRepository oAuthUnlinkTaskRepository, MemberRepository memberRepository,
+                              KakaoService kakaoService, AppleService appleService, GoogleService googleService,
+                              TransactionTemplate transactionTemplate, MeterRegistry meterRegistry) {
+        this.oAuthUnlinkTaskRepository = oAuthUnlinkTaskRepository;
+        this.memberRepository = memberRepository;
+        this.kakaoService = kakaoService;
+        this.appleService = appleService;
+        this.googleService = googleService;
+        this.transactionTemplate = transactionTemplate;
+        this.meterRegistry = meterRegistry;
+    }
+
+    // 탈퇴 트랜잭션 안에서 연결 해제 작업 저장
+    @Transactional
+    public void enqueue(Member member) {
+        oAuthUnlinkTaskRepository.deleteByMemberId(member.getId());
+        oAuthUnlinkTaskRepository.save(OAuthUnlinkTask.builder()
+                .memberId(member.getId())
+                .socialType(member.getSocialType())
+                .socialId(member.getSocialId())
+                .oauthRefreshToken(member.getOauthRefreshToken())
+                .attempts(0)
+                .nextAttemptAt(LocalDateTime.now())
+                .build());
+    }
+
+    // 탈퇴 회원이 복구되면 아직 처리되지 않은 연결 해제 취소
+    @Transactional
+    public void cancel(Long memberId) {
+        oAuthUnlinkTaskRepository.deleteByMemberId(memberId);
+    }
+
+    // 처리할 차례인 작업을 최대 batchSize 개까지 처리 후 처리한 작업 수 반환 (스케줄러에서 호출)
+    // 묶음 전체를 한 번에 점유하면 앞 작업의 외부 호출이 밀리는 동안 뒤 작업의 점유가 만료되므로 한 건씩 점유 후 바로 처리
+    public int processDueTasks() {
+        int processed = 0;
+        while (processed < batchSize) {
+            OAuthUnlinkTask task = transactionTemplate.execute(status -> claimNextTask());
+            if (task == null) {
+                break;
+            }
+            process(task);
+            processed++;
+        }
+        return processed;
+    }
+
+    // 다음 작업을 점유 (외부 호출 직전에 회원 상태를 다시 확인해 그 사이 복구된 회원의 작업은 취소)
+    private OAuthUnlinkTask claimNextTask() {
+        LocalDateTime now = LocalDateTime.now();
+        while (true) {
+            List<OAuthUnlinkTask> due = oAuthUnlinkTaskRepository.findDueForUpdate(now, 1);
+            if (due.isEmpty()) {
+                return null;
+            }
+
+            OAuthUnlinkTask task = due.get(0);
+            boolean restored = memberRepository.findById(task.getMemberId())
+                    .map(member -> !member.isDeleted())
+                    .orElse(false);
+            if (restored) {
+                oAuthUnlinkTaskRepository.deleteByMemberId(task.getMemberId());
+                count(task, "cancelled");
+                continue;
+            }
+
+            oAuthUnlinkTaskRepository.lease(List.of(task.getId()), now.plusNanos(leaseMillis * 1_000_000L));
+            return task;
+        }
+    }
+
+    private void process(OAuthUnlinkTask task) {
+        Timer.Sample sample = Timer.start(meterRegistry);
+        try {
+            unlink(task);
+            transactionTemplate.executeWithoutResult(status -> oAuthUnlinkTaskRepository.deleteById(task.getId()));
+            count(task, "success");
+        } catch (Exception e) {
+            String error = truncate(e.getMessage() == null ? e.getClass().getSimpleName() : e.getMessage());
+            if (isPermanentFailure(e)) {
+                // 이미 해제된 계정, 만료/폐기된 OAuth 토큰 등은 재시도해도 성공하지 않으므로 중단
+                transactionTemplate.executeWithoutResult(status -> oAuthUnlinkTaskRepository.markDead(task.getId(), error));
+                count(task, "dead");
+                log.error("회원 {} 소셜 연결 해제 실패, 재시도 중단: {}", task.getMemberId(), error);
+                return;
+            }
+
+            long backoff = backoffMillis(task.getAttempts());
+            transactionTemplate.executeWithoutResult(status -> oAuthUnlinkTaskRepository.scheduleRetry(task.getId(),
+                    LocalDateTime.now().plusNanos(backoff * 1_000_000L), error));
+            count(task, "retry");
+            log.warn("회원 {} 소셜 연결 해제 실패 ({}회째), {}ms 후 재시도: {}",
+                    task.getMemberId(), task.getAttempts() + 1, backoff, error);
+        } finally {
+            sample.stop(meterRegistry.timer("oauth.unlink.duration", "provider", provider(task)));
+        }
+    }
+
+    // 제공자가 4xx 로 거절한 요청은 재시도해도 같은 결과 (요청 시간 초과, 요청 한도 초과는 제외)
+    private boolean isPermanentFailure(Exception e) {
+        if (!(e instanceof HttpClientErrorException clientError)) {
+            return false;
+        }
+        int status = clientError.getStatusCode().value();
+        return status != 408 && status != 429;
+    }
+
+    private String truncate(String error) {
+        return error.length() > MAX_ERROR_LENGTH ? error.substring(0, MAX_ERROR_LENGTH) : error;
+    }
+
+    // 소셜 계정 앱 연결 해제
+    private void unlink(OAuthUnlinkTask task) throws Exception {
+        // 카카오 소셜 계정의 경우 앱 연결 해제 진행
+        if ("KAKAO".equalsIgnoreCase(task.getSocialType())) {
+            kakaoService.unlinkKakaoUser(task.getSocialId());
+            return;
+        }
+
+        // 애플/구글은 리프레시 토큰으로 엑세스 토큰 재발급 후 해제 (토큰이 없으면 해제할 수 없으므로 건너뜀)
+        String refreshToken = task.getOauthRefreshToken();
+        if (refreshToken == null || refreshToken.isEmpty()) {
+            if ("APPLE".equalsIgnoreCase(task.getSocialType()) || "GOOGLE".equalsIgnoreCase(task.getSocialType())) {
+                log.warn("회원 {} 의 OAuth 리프레시 토큰이 없어 연결 해제를 건너뜁니다.", task.getMemberId());
+            }
+            return;
+        }
+
+        if ("APPLE".equalsIgnoreCase(task.getSocialType())) {
+            appleService.unlinkAppleUser(appleService.refreshAppleAccessToken(refreshToken));
+        } else if ("GOOGLE".equalsIgnoreCase(task.getSocialType())) {
+            googleService.unlinkGoogleUser(googleService.refreshGoogleAccessToken(refreshToken));
+        }
+    }
+
+    // 초기 대기 시간 * 2^실패횟수 (최대값 제한, 여러 작업이 동시에 몰리지 않도록 최대 10% 지터)
+    private long backoffMillis(int attempts) {
+        long backoff = initialBackoffMillis << Math.min(attempts, 20);
+        if (backoff <= 0 || backoff > maxBackoffMillis) {
+            backoff = maxBackoffMillis;
+        }
+        return backoff + ThreadLocalRandom.current().nextLong(backoff / 10 + 1);
+    }
+
+    private void count(OAuthUnlinkTask task, String result) {
+        Counter.builder("oauth.unlink.tasks")
+                .tag("provider", provider(task))
+                .tag("result", result)
+                .register(meterRegistry)
+                .increment();
+    }
+
+    private String provider(OAuthUnlinkTask task) {
+        return task.getSocialType() == null ? "unknown" : task.getSocialType().toLowerCase(Locale.ROOT);
+    }
+}
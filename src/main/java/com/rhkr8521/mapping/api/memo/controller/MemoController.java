@@ -1,10 +1,13 @@
 package com.rhkr8521.mapping.api.memo.controller;
 
-import com.rhkr8521.mapping.api.member.service.MemberService;
+import com.rhkr8521.mapping.api.member.jwt.principal.MemberPrincipal;
 import com.rhkr8521.mapping.api.memo.dto.*;
+import com.rhkr8521.mapping.api.memo.entity.MemberActivityType;
 import com.rhkr8521.mapping.api.memo.service.MemoService;
 import com.rhkr8521.mapping.common.exception.BadRequestException;
 import com.rhkr8521.mapping.common.response.ApiResponse;
+import com.rhkr8521.mapping.common.response.ApiResponseStreamer;
+import com.rhkr8521.mapping.common.response.CursorPageResponseDTO;
 import com.rhkr8521.mapping.common.response.ErrorStatus;
 import com.rhkr8521.mapping.common.response.SuccessStatus;
 import io.swagger.v3.oas.annotations.Operation;
@@ -14,8 +17,8 @@ import lombok.RequiredArgsConstructor;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
-import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import jakarta.servlet.http.HttpServletRequest;
 import org.springframework.web.multipart.MultipartFile;
@@ -30,7 +33,7 @@ import java.util.List;
 public class MemoController {
 
     private final MemoService memoService;
-    private final MemberService memberService;
+    private final ApiResponseStreamer apiResponseStreamer;
 
     @Operation(
             summary = "메모 등록 API",
@@ -50,7 +53,7 @@ public class MemoController {
             @RequestParam("secret") boolean secret,
             @RequestParam("currentLat") double currentLat,
             @RequestParam("currentLng") double currentLng,
-            @AuthenticationPrincipal UserDetails userDetails,
+            @AuthenticationPrincipal MemberPrincipal principal,
             @RequestParam(value = "images", required = false) List<MultipartFile> images,
             HttpServletRequest request) throws IOException {
 
@@ -81,7 +84,7 @@ public class MemoController {
                 .secret(secret)
                 .build();
 
-        Long userId = memberService.getUserIdByEmail(userDetails.getUsername());
+        Long userId = principal.getId();
 
         memoService.createMemo(userId, memoCreateRequestDTO, images, request);
         return ApiResponse.success_only(SuccessStatus.CREATE_MEMO_SUCCESS);
@@ -99,15 +102,14 @@ public class MemoController {
     public ResponseEntity<ApiResponse<List<MemoTotalListResponseDTO>>> getMemosWithinRadius(
             @RequestParam("lat") Double lat,
             @RequestParam("lng") Double lng,
-            @RequestParam("km") Double km,
-            @AuthenticationPrincipal UserDetails userDetails) {
+            @RequestParam("km") Double km) {
 
         // 필수 입력 값 누락 체크
         if (lat == null || lng == null || km == null) {
             throw new BadRequestException(ErrorStatus.VALIDATION_CONTENT_MISSING_EXCEPTION.getMessage());
         }
 
-        List<MemoTotalListResponseDTO> memos = memoService.getMemosWithinRadius(lat, lng, km, userDetails);
+        List<MemoTotalListResponseDTO> memos = memoService.getMemosWithinRadius(lat, lng, km);
         return ApiResponse.success(SuccessStatus.SEND_TOTAL_MEMO_SUCCESS, memos);
     }
 
@@ -122,15 +124,14 @@ public class MemoController {
     })
     @GetMapping("/detail")
     public ResponseEntity<ApiResponse<MemoDetailResponseDTO>> getMemoDetail(
-            @RequestParam Long memoId,
-            @AuthenticationPrincipal UserDetails userDetails) {
+            @RequestParam Long memoId) {
 
         // 필수 입력 값 누락 체크
         if (memoId == null) {
             throw new BadRequestException(ErrorStatus.VALIDATION_CONTENT_MISSING_EXCEPTION.getMessage());
         }
 
-        MemoDetailResponseDTO memoDetail = memoService.getMemoDetail(memoId, userDetails);
+        MemoDetailResponseDTO memoDetail = memoService.getMemoDetail(memoId);
         return ApiResponse.success(SuccessStatus.SEND_MEMO_DETAIL_SUCCESS, memoDetail);
     }
 
@@ -143,14 +144,30 @@ public class MemoController {
     })
     @GetMapping("/my-memo")
     public ResponseEntity<ApiResponse<List<MyMemoListResponseDTO>>> getMyMemo(
-            @AuthenticationPrincipal UserDetails userDetails) {
+            @AuthenticationPrincipal MemberPrincipal principal) {
 
-        Long userId = memberService.getUserIdByEmail(userDetails.getUsername());
+        Long userId = principal.getId();
 
         List<MyMemoListResponseDTO> myMemoList = memoService.getMyMemoList(userId);
         return ApiResponse.success(SuccessStatus.SEND_TOTAL_MEMO_SUCCESS, myMemoList);
     }
 
+    @Operation(
+            summary = "내 메모 스트리밍 조회 API",
+            description = "내가 작성한 메모를 조회합니다. 응답 형태는 내 메모 조회 API 와 같고, 서버에서 한 건씩 나누어 전송합니다."
+    )
+    @ApiResponses({
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "200", description = "메모 조회 성공"),
+    })
+    @GetMapping(value = "/my-memo/stream", produces = MediaType.APPLICATION_JSON_VALUE)
+    public ResponseEntity<StreamingResponseBody> streamMyMemo(
+            @AuthenticationPrincipal MemberPrincipal principal) {
+
+        Long userId = principal.getId();
+
+        return apiResponseStreamer.stream(SuccessStatus.SEND_TOTAL_MEMO_SUCCESS, memoService.openMyMemoStream(userId));
+    }
+
     @Operation(
             summary = "메모 삭제 API",
             description = "등록한 메모를 삭제합니다."
@@ -163,7 +180,7 @@ public class MemoController {
     @DeleteMapping("/delete/{memoId}")
     public ResponseEntity<ApiResponse<Void>> deleteMemo(
             @PathVariable Long memoId,
-            @AuthenticationPrincipal UserDetails userDetails,
+            @AuthenticationPrincipal MemberPrincipal principal,
             HttpServletRequest request
     ) {
 
@@ -172,7 +189,7 @@ public class MemoController {
             throw new BadRequestException(ErrorStatus.VALIDATION_CONTENT_MISSING_EXCEPTION.getMessage());
         }
 
-        Long userId = memberService.getUserIdByEmail(userDetails.getUsername());
+        Long userId = principal.getId();
         memoService.deleteMemo(memoId, userId, request);
 
         return ApiResponse.success_only(SuccessStatus.DELETE_MEMO_SUCCESS);
@@ -194,7 +211,7 @@ public class MemoController {
             @RequestParam("content") String content,
             @RequestParam("category") String category,
             @RequestParam("secret") boolean secret,
-            @AuthenticationPrincipal UserDetails userDetails,
+            @AuthenticationPrincipal MemberPrincipal principal,
             @RequestParam(value = "images", required = false) List<MultipartFile> images,
             @RequestParam(value = "deleteImageUrls", required = false) List<String> deleteImageUrls,
             HttpServletRequest request
@@ -224,7 +241,7 @@ public class MemoController {
                 .secret(secret)
                 .build();
 
-        Long userId = memberService.getUserIdByEmail(userDetails.getUsername());
+        Long userId = principal.getId();
 
         memoService.updateMemo(memoId, userId, memoUpdateRequestDTO, images, deleteImageUrls, request);
 
@@ -246,7 +263,7 @@ public class MemoController {
             @RequestParam("title") String title,
             @RequestParam("content") String content,
             @RequestParam("category") String category,
-            @AuthenticationPrincipal UserDetails userDetails,
+            @AuthenticationPrincipal MemberPrincipal principal,
             @RequestParam(value = "images", required = false) List<MultipartFile> images,
             @RequestParam(value = "deleteImageUrls", required = false) List<String> deleteImageUrls,
             HttpServletRequest request
@@ -275,7 +292,7 @@ public class MemoController {
                 .category(category)
                 .build();
 
-        Long userId = memberService.getUserIdByEmail(userDetails.getUsername());
+        Long userId = principal.getId();
 
         memoService.exUpdateMemo(memoId, userId, memoUpdateRequestDTO, images, deleteImageUrls, request);
 
@@ -291,13 +308,13 @@ public class MemoController {
             @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "404", description = "해당 메모를 찾을 수 없습니다."),
     })
     @PostMapping("/like/{memoId}")
-    public ResponseEntity<ApiResponse<Void>> toggleLike(
+    public ResponseEntity<ApiResponse<MemoReactionResponseDTO>> toggleLike(
             @PathVariable Long memoId,
-            @AuthenticationPrincipal UserDetails userDetails
+            @AuthenticationPrincipal MemberPrincipal principal
     ) {
-        Long userId = memberService.getUserIdByEmail(userDetails.getUsername());
-        memoService.toggleLike(memoId, userId);
-        return ApiResponse.success_only(SuccessStatus.TOGGLE_LIKE_SUCCESS);
+        Long userId = principal.getId();
+        MemoReactionResponseDTO reaction = memoService.toggleLike(memoId, userId);
+        return ApiResponse.success(SuccessStatus.TOGGLE_LIKE_SUCCESS, reaction);
     }
 
     @Operation(
@@ -309,13 +326,13 @@ public class MemoController {
             @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "404", description = "해당 메모를 찾을 수 없습니다."),
     })
     @PostMapping("/hate/{memoId}")
-    public ResponseEntity<ApiResponse<Void>> toggleHate(
+    public ResponseEntity<ApiResponse<MemoReactionResponseDTO>> toggleHate(
             @PathVariable Long memoId,
-            @AuthenticationPrincipal UserDetails userDetails
+            @AuthenticationPrincipal MemberPrincipal principal
     ) {
-        Long userId = memberService.getUserIdByEmail(userDetails.getUsername());
-        memoService.toggleHate(memoId, userId);
-        return ApiResponse.success_only(SuccessStatus.TOGGLE_HATE_SUCCESS);
+        Long userId = principal.getId();
+        MemoReactionResponseDTO reaction = memoService.toggleHate(memoId, userId);
+        return ApiResponse.success(SuccessStatus.TOGGLE_HATE_SUCCESS, reaction);
     }
 
     @Operation(
@@ -327,9 +344,9 @@ public class MemoController {
             @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "404", description = "해당 메모를 찾을 수 없습니다."),
     })
     @GetMapping("/commented")
-    public ResponseEntity<ApiResponse<List<MemoListResponseDTO>>> getMemosWithMyComments(@AuthenticationPrincipal UserDetails userDetails) {
+    public ResponseEntity<ApiResponse<List<MemoListResponseDTO>>> getMemosWithMyComments() {
 
-        List<MemoListResponseDTO> memos = memoService.getMemosWithMyComments(userDetails);
+        List<MemoListResponseDTO> memos = memoService.getMemosWithMyComments();
         return ApiResponse.success(SuccessStatus.SEND_TOTAL_MEMO_SUCCESS, memos);
     }
 
@@ -342,9 +359,43 @@ public class MemoController {
             @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "404", description = "해당 메모를 찾을 수 없습니다."),
     })
     @GetMapping("/liked")
-    public ResponseEntity<ApiResponse<List<MemoListResponseDTO>>> getMemosILiked(@AuthenticationPrincipal UserDetails userDetails) {
+    public ResponseEntity<ApiResponse<List<MemoListResponseDTO>>> getMemosILiked() {
 
-        List<MemoListResponseDTO> memos =memoService.getMemosILiked(userDetails);
+        List<MemoListResponseDTO> memos = memoService.getMemosILiked();
+        return ApiResponse.success(SuccessStatus.SEND_TOTAL_MEMO_SUCCESS, memos);
+    }
+
+    @Operation(
+            summary = "내가 댓글 작성한 메모 페이지 조회 API",
+            description = "내가 댓글 작성한 메모를 마지막 댓글 최신순으로 페이지 단위 조회합니다. 응답의 nextCursor 를 다음 요청의 cursor 로 전달합니다."
+    )
+    @ApiResponses({
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "200", description = "전체 메모 조회 성공"),
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "400", description = "잘못된 페이지 커서입니다."),
+    })
+    @GetMapping("/commented/page")
+    public ResponseEntity<ApiResponse<CursorPageResponseDTO<MemoListResponseDTO>>> getMemosWithMyCommentsPage(
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "20") int size
+    ) {
+        CursorPageResponseDTO<MemoListResponseDTO> memos = memoService.getActivityMemoPage(MemberActivityType.COMMENTED, cursor, size);
+        return ApiResponse.success(SuccessStatus.SEND_TOTAL_MEMO_SUCCESS, memos);
+    }
+
+    @Operation(
+            summary = "내가 좋아요 누른 메모 페이지 조회 API",
+            description = "내가 좋아요 누른 메모를 좋아요 최신순으로 페이지 단위 조회합니다. 응답의 nextCursor 를 다음 요청의 cursor 로 전달합니다."
+    )
+    @ApiResponses({
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "200", description = "전체 메모 조회 성공"),
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "400", description = "잘못된 페이지 커서입니다."),
+    })
+    @GetMapping("/liked/page")
+    public ResponseEntity<ApiResponse<CursorPageResponseDTO<MemoListResponseDTO>>> getMemosILikedPage(
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "20") int size
+    ) {
+        CursorPageResponseDTO<MemoListResponseDTO> memos = memoService.getActivityMemoPage(MemberActivityType.LIKED, cursor, size);
         return ApiResponse.success(SuccessStatus.SEND_TOTAL_MEMO_SUCCESS, memos);
     }
 
@@ -21,6 +21,8 @@ public class MemoDetailResponseDTO {
     private String category;
     private long likeCnt;
     private long hateCnt;
+    private long commentCnt;
+    private double ratingAvg;
     private List<String> images;
     private boolean myMemo;
     private boolean myLike;
@@ -16,5 +16,7 @@ public class MemoListResponseDTO {
     private String category;  // 카테고리
     private long likeCnt;     // 좋아요 개수
     private long hateCnt;     // 싫어요 개수
+    private long commentCnt;  // 댓글 개수
+    private double ratingAvg; // 평균 별점
     private List<String> images; // 이미지 목록
 }
@@ -0,0 +1,14 @@
+package com.rhkr8521.mapping.api.memo.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+public class MemoReactionResponseDTO {
+    private Long memoId;
+    private boolean myLike;
+    private boolean myHate;
+}
@@ -17,6 +17,8 @@ public class MyMemoListResponseDTO {
     private String category;
     private long likeCnt;
     private long hateCnt;
+    private long commentCnt;
+    private double ratingAvg;
     private List<String> images;
     private boolean secret;
 }
@@ -0,0 +1,49 @@
+package com.rhkr8521.mapping.api.memo.entity;
+
+import com.rhkr8521.mapping.common.entity.BaseTimeEntity;
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDateTime;
+
+/**
+ * ID 구간 단위로 나누어 처리하는 배치 작업의 진행 위치
+ * - 행을 잠근 인스턴스만 다음 구간을 처리하므로 여러 인스턴스가 같은 구간을 동시에 처리하지 않음
+ * - 중간에 멈춰도 마지막으로 처리한 ID 다음부터 이어서 처리
+ */
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@AllArgsConstructor
+@Entity
+@Table(name = "batch_job_checkpoint")
+@Builder(toBuilder = true)
+public class BatchJobCheckpoint extends BaseTimeEntity {
+
+    // 작업 이름
+    @Id
+    @Column(name = "job_name", length = 50)
+    private String jobName;
+
+    // 마지막으로 처리한 ID (구간 상한)
+    @Column(name = "last_id")
+    private long lastId;
+
+    // 마지막으로 전체 처리를 끝낸 시각
+    @Column(name = "completed_at")
+    private LocalDateTime completedAt;
+
+    // 다음 구간으로 이동
+    public BatchJobCheckpoint advanceTo(long id) {
+        return this.toBuilder()
+                .lastId(id)
+                .build();
+    }
+
+    // 전체 처리 완료 (다음 실행은 처음부터)
+    public BatchJobCheckpoint complete(LocalDateTime now) {
+        return this.toBuilder()
+                .lastId(0L)
+                .completedAt(now)
+                .build();
+    }
+}
@@ -0,0 +1,39 @@
+package com.rhkr8521.mapping.api.memo.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDateTime;
+
+/**
+ * 회원별 활동(댓글 작성/좋아요) 메모 목록 읽기 모델
+ * - (회원, 활동 종류, 메모) 당 한 행, 마지막 활동 시각 기준 최신순 키셋 조회
+ */
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@AllArgsConstructor
+@Entity
+@Table(name = "member_activity",
+        uniqueConstraints = @UniqueConstraint(name = "uk_member_activity", columnNames = {"user_id", "activity_type", "memo_id"}),
+        indexes = @Index(name = "idx_member_activity_recent", columnList = "user_id, activity_type, last_activity_at, memo_id"))
+@Builder
+public class MemberActivity {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name = "member_activity_id")
+    private Long id;
+
+    @Column(name = "user_id", nullable = false)
+    private Long userId;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "activity_type", nullable = false, length = 20)
+    private MemberActivityType activityType;
+
+    @Column(name = "memo_id", nullable = false)
+    private Long memoId;
+
+    @Column(name = "last_activity_at", nullable = false)
+    private LocalDateTime lastActivityAt;
+}
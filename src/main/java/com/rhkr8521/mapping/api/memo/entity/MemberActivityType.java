@@ -0,0 +1,14 @@
+package com.rhkr8521.mapping.api.memo.entity;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+@Getter
+@RequiredArgsConstructor
+public enum MemberActivityType {
+
+    COMMENTED("댓글 작성"),
+    LIKED("좋아요");
+
+    private final String description;
+}
@@ -30,7 +30,10 @@ public class Memo extends BaseTimeEntity {
     private double lat;
     private double lng;
     private String category;
+    // 카운터/집계 컬럼은 원자적 UPDATE 쿼리로만 변경 (엔티티 저장 시 요청 시작 시점 값으로 덮어쓰지 않도록)
+    @Column(updatable = false)
     private long likeCnt;
+    @Column(updatable = false)
     private long hateCnt;
     private String createIp;
     private String lastModifyIp;
@@ -39,6 +42,14 @@ public class Memo extends BaseTimeEntity {
     private boolean modify;
     private boolean isHidden;
     private boolean isDeleted;
+    @Column(updatable = false)
+    private boolean shardedCounter; // 반응이 몰리는 메모는 memo_counter_shard 슬롯으로 카운트 분산
+    @Column(updatable = false)
+    private long commentCnt;  // 삭제되지 않은 댓글 수
+    @Column(updatable = false)
+    private long ratingSum;   // 별점(1점 이상) 합계
+    @Column(updatable = false)
+    private long ratingCount; // 별점을 남긴 댓글 수
 
     @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "user_id")
@@ -67,4 +78,12 @@ public class Memo extends BaseTimeEntity {
         }
     }
 
+    // 평균 별점 (소수점 첫째 자리 반올림, 별점이 없으면 0)
+    public double getRatingAvg() {
+        if (ratingCount == 0) {
+            return 0;
+        }
+        return Math.round((double) ratingSum / ratingCount * 10) / 10.0;
+    }
+
 }
@@ -0,0 +1,30 @@
+package com.rhkr8521.mapping.api.memo.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@AllArgsConstructor
+@Entity
+@Table(name = "memo_counter_shard",
+        uniqueConstraints = @UniqueConstraint(name = "uk_memo_counter_shard_memo_slot", columnNames = {"memo_id", "slot"}))
+@Builder
+public class MemoCounterShard {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name = "memo_counter_shard_id")
+    private Long id;
+
+    @Column(name = "memo_id", nullable = false)
+    private Long memoId;
+
+    // 슬롯 번호 (0 ~ 슬롯 수 - 1)
+    @Column(nullable = false)
+    private int slot;
+
+    // 슬롯별 누적값 (감소가 다른 슬롯에 몰리면 음수가 될 수 있으며 합계만 의미가 있음)
+    private long likeCnt;
+    private long hateCnt;
+}
@@ -0,0 +1,19 @@
+package com.rhkr8521.mapping.api.memo.entity;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+@Getter
+@RequiredArgsConstructor
+public enum ReactionAction {
+
+    TOGGLE_LIKE("좋아요 토글"),
+    TOGGLE_HATE("싫어요 토글"),
+
+    // 짧은 시간 내 연속 토글을 합친 최종 상태
+    SET_NONE("반응 없음으로 설정"),
+    SET_LIKE("좋아요로 설정"),
+    SET_HATE("싫어요로 설정");
+
+    private final String description;
+}
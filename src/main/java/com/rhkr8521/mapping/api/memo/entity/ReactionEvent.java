@@ -0,0 +1,33 @@
+package com.rhkr8521.mapping.api.memo.entity;
+
+import com.rhkr8521.mapping.common.entity.BaseTimeEntity;
+import jakarta.persistence.*;
+import lombok.*;
+
+/**
+ * 메모 반응(좋아요/싫어요) 이벤트 로그
+ * - 요청 시점에는 이 테이블에 추가만 하고, MemoReactionProjector 가 순서대로 반응 테이블과 카운트에 반영
+ */
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@AllArgsConstructor
+@Entity
+@Table(name = "reaction_event")
+@Builder
+public class ReactionEvent extends BaseTimeEntity {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name = "reaction_event_id")
+    private Long id;
+
+    @Column(name = "memo_id", nullable = false)
+    private Long memoId;
+
+    @Column(name = "user_id", nullable = false)
+    private Long userId;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 20)
+    private ReactionAction action;
+}
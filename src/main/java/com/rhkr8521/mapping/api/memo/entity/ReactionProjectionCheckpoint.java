@@ -0,0 +1,29 @@
+package com.rhkr8521.mapping.api.memo.entity;
+
+import com.rhkr8521.mapping.common.entity.BaseTimeEntity;
+import jakarta.persistence.*;
+import lombok.*;
+
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@AllArgsConstructor
+@Entity
+@Table(name = "reaction_projection_checkpoint")
+@Builder(toBuilder = true)
+public class ReactionProjectionCheckpoint extends BaseTimeEntity {
+
+    // 프로젝터 이름
+    @Id
+    @Column(name = "projector", length = 50)
+    private String projector;
+
+    // 마지막으로 반영한 이벤트 ID
+    private long lastEventId;
+
+    // 체크포인트 갱신
+    public ReactionProjectionCheckpoint advanceTo(long eventId) {
+        return this.toBuilder()
+                .lastEventId(eventId)
+                .build();
+    }
+}
@@ -0,0 +1,26 @@
+package com.rhkr8521.mapping.api.memo.entity;
+
+public enum ReactionState {
+
+    NONE, LIKE, HATE;
+
+    // 좋아요/싫어요 토글 후 상태 (좋아요와 싫어요는 상호 배타적)
+    public ReactionState toggle(ReactionAction action) {
+        return switch (action) {
+            case TOGGLE_LIKE -> this == LIKE ? NONE : LIKE;
+            case TOGGLE_HATE -> this == HATE ? NONE : HATE;
+            case SET_NONE -> NONE;
+            case SET_LIKE -> LIKE;
+            case SET_HATE -> HATE;
+        };
+    }
+
+    // 이 상태로 설정하는 이벤트 액션
+    public ReactionAction toSetAction() {
+        return switch (this) {
+            case NONE -> ReactionAction.SET_NONE;
+            case LIKE -> ReactionAction.SET_LIKE;
+            case HATE -> ReactionAction.SET_HATE;
+        };
+    }
+}
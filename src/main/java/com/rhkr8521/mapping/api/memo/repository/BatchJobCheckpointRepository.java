@@ -0,0 +1,26 @@
+package com.rhkr8521.mapping.api.memo.repository;
+
+import com.rhkr8521.mapping.api.memo.entity.BatchJobCheckpoint;
+import jakarta.persistence.LockModeType;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.Optional;
+
+@Repository
+public interface BatchJobCheckpointRepository extends JpaRepository<BatchJobCheckpoint, String> {
+
+    // 작업 행이 없으면 생성 (여러 인스턴스가 동시에 실행해도 한 행만 생성)
+    @Modifying
+    @Query(value = "INSERT IGNORE INTO batch_job_checkpoint (job_name, last_id) VALUES (:jobName, 0)", nativeQuery = true)
+    int createIfAbsent(@Param("jobName") String jobName);
+
+    // 한 인스턴스만 다음 구간을 처리하도록 작업 행을 잠금
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("select c from BatchJobCheckpoint c where c.jobName = :jobName")
+    Optional<BatchJobCheckpoint> findForUpdate(@Param("jobName") String jobName);
+}
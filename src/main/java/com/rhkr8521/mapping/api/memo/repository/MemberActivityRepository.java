@@ -0,0 +1,89 @@
+package com.rhkr8521.mapping.api.memo.repository;
+
+import com.rhkr8521.mapping.api.memo.entity.MemberActivity;
+import com.rhkr8521.mapping.api.memo.entity.MemberActivityType;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Repository
+public interface MemberActivityRepository extends JpaRepository<MemberActivity, Long> {
+
+    // 활동 기록 (이미 있으면 마지막 활동 시각만 갱신)
+    @Modifying
+    @Query(value = "INSERT INTO member_activity (user_id, activity_type, memo_id, last_activity_at) " +
+            "VALUES (:userId, :activityType, :memoId, :activityAt) " +
+            "ON DUPLICATE KEY UPDATE last_activity_at = GREATEST(last_activity_at, VALUES(last_activity_at))",
+            nativeQuery = true)
+    int upsert(@Param("userId") Long userId,
+               @Param("activityType") String activityType,
+               @Param("memoId") Long memoId,
+               @Param("activityAt") LocalDateTime activityAt);
+
+    @Modifying
+    @Query("delete from MemberActivity a where a.userId = :userId and a.activityType = :activityType and a.memoId = :memoId")
+    int deleteActivity(@Param("userId") Long userId,
+                       @Param("activityType") MemberActivityType activityType,
+                       @Param("memoId") Long memoId);
+
+    // 활동 메모 첫 페이지 (마지막 활동 최신순)
+    @Query("select a from MemberActivity a " +
+            "where a.userId = :userId and a.activityType = :activityType " +
+            "order by a.lastActivityAt desc, a.memoId desc")
+    List<MemberActivity> findFirstPage(@Param("userId") Long userId,
+                                       @Param("activityType") MemberActivityType activityType,
+                                       Pageable pageable);
+
+    // 활동 메모 다음 페이지 (커서 (lastActivityAt, memoId) 이후)
+    @Query("select a from MemberActivity a " +
+            "where a.userId = :userId and a.activityType = :activityType " +
+            "and (a.lastActivityAt < :activityAt or (a.lastActivityAt = :activityAt and a.memoId < :memoId)) " +
+            "order by a.lastActivityAt desc, a.memoId desc")
+    List<MemberActivity> findPageAfter(@Param("userId") Long userId,
+                                       @Param("activityType") MemberActivityType activityType,
+                                       @Param("activityAt") LocalDateTime activityAt,
+                                       @Param("memoId") Long memoId,
+                                       Pageable pageable);
+
+    // fromId 다음부터 limit 건 구간의 마지막 댓글 ID (남은 댓글이 없으면 null)
+    @Query(value = "SELECT MAX(t.comment_id) FROM (SELECT comment_id FROM comment WHERE comment_id > :fromId " +
+            "ORDER BY comment_id LIMIT :limit) t", nativeQuery = true)
+    Long findCommentIdRangeUpperBound(@Param("fromId") long fromId, @Param("limit") int limit);
+
+    // fromId 다음부터 limit 건 구간의 마지막 좋아요 ID (남은 좋아요가 없으면 null)
+    @Query(value = "SELECT MAX(t.memo_like_id) FROM (SELECT memo_like_id FROM memo_like WHERE memo_like_id > :fromId " +
+            "ORDER BY memo_like_id LIMIT :limit) t", nativeQuery = true)
+    Long findLikeIdRangeUpperBound(@Param("fromId") long fromId, @Param("limit") int limit);
+
+    // (fromId, toId] 구간 댓글 기준 적재 (삭제되지 않은 댓글만, 이미 있으면 마지막 활동 시각만 갱신)
+    @Modifying
+    @Query(value = "INSERT INTO member_activity (user_id, activity_type, memo_id, last_activity_at) " +
+            "SELECT c.user_id, 'COMMENTED', c.memo_id, MAX(c.created_at) FROM comment c " +
+            "WHERE c.is_deleted = false AND c.comment_id > :fromId AND c.comment_id <= :toId " +
+            "GROUP BY c.user_id, c.memo_id " +
+            "ON DUPLICATE KEY UPDATE last_activity_at = GREATEST(last_activity_at, VALUES(last_activity_at))",
+            nativeQuery = true)
+    int backfillCommented(@Param("fromId") long fromId, @Param("toId") long toId);
+
+    // (fromId, toId] 구간 좋아요 기준 적재 (이미 있으면 유지)
+    // - 이벤트 로그 도입 이후의 좋아요는 프로젝터가 실제 시각으로 이미 기록하므로, 여기서 들어가는 행은 그 이전 좋아요뿐
+    // - 이전 좋아요는 시각이 남아 있지 않아 좋아요 ID 순서를 유지하는 과거 시각(기준 시각 + ID 초)으로 기록
+    //   (목록 정렬에만 쓰이고 응답에는 노출되지 않음, 이후 실제 활동보다 항상 앞에 정렬)
+    @Modifying
+    @Query(value = "INSERT IGNORE INTO member_activity (user_id, activity_type, memo_id, last_activity_at) " +
+            "SELECT l.user_id, 'LIKED', l.memo_id, TIMESTAMP('2000-01-01') + INTERVAL l.memo_like_id SECOND " +
+            "FROM memo_like l " +
+            "WHERE l.memo_like_id > :fromId AND l.memo_like_id <= :toId",
+            nativeQuery = true)
+    int backfillLiked(@Param("fromId") long fromId, @Param("toId") long toId);
+
+    void deleteAllByMemoId(Long memoId);
+
+    void deleteAllByUserId(Long userId);
+}
@@ -0,0 +1,53 @@
+package com.rhkr8521.mapping.api.memo.repository;
+
+import com.rhkr8521.mapping.api.memo.entity.MemoCounterShard;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.Collection;
+
+@Repository
+public interface MemoCounterShardRepository extends JpaRepository<MemoCounterShard, Long> {
+
+    // 슬롯에 증감값 반영 (슬롯 행이 없으면 생성)
+    @Modifying
+    @Query(value = "INSERT INTO memo_counter_shard (memo_id, slot, like_cnt, hate_cnt) " +
+            "VALUES (:memoId, :slot, :likeDelta, :hateDelta) " +
+            "ON DUPLICATE KEY UPDATE like_cnt = like_cnt + :likeDelta, hate_cnt = hate_cnt + :hateDelta",
+            nativeQuery = true)
+    void addToSlot(@Param("memoId") Long memoId,
+                   @Param("slot") int slot,
+                   @Param("likeDelta") long likeDelta,
+                   @Param("hateDelta") long hateDelta);
+
+    // 샤딩 전환 시점의 카운트를 0번 슬롯으로 이관
+    @Modifying
+    @Query(value = "INSERT INTO memo_counter_shard (memo_id, slot, like_cnt, hate_cnt) " +
+            "SELECT m.memo_id, 0, m.like_cnt, m.hate_cnt FROM memo m WHERE m.memo_id = :memoId " +
+            "ON DUPLICATE KEY UPDATE like_cnt = VALUES(like_cnt), hate_cnt = VALUES(hate_cnt)",
+            nativeQuery = true)
+    void seedFromMemo(@Param("memoId") Long memoId);
+
+    // 샤딩 카운터 메모 전체의 카운트를 0번 슬롯으로 다시 이관 (카운트 재계산 후 사용)
+    @Modifying
+    @Query(value = "INSERT INTO memo_counter_shard (memo_id, slot, like_cnt, hate_cnt) " +
+            "SELECT m.memo_id, 0, m.like_cnt, m.hate_cnt FROM memo m WHERE m.sharded_counter = true",
+            nativeQuery = true)
+    int seedAllShardedMemos();
+
+    // 슬롯 합계를 memo.like_cnt / hate_cnt 로 반영
+    @Modifying
+    @Query(value = "UPDATE memo m JOIN (" +
+            "SELECT s.memo_id, SUM(s.like_cnt) AS like_sum, SUM(s.hate_cnt) AS hate_sum " +
+            "FROM memo_counter_shard s WHERE s.memo_id IN (:memoIds) GROUP BY s.memo_id" +
+            ") t ON m.memo_id = t.memo_id " +
+            "SET m.like_cnt = GREATEST(t.like_sum, 0), m.hate_cnt = GREATEST(t.hate_sum, 0) " +
+            "WHERE m.sharded_counter = true",
+            nativeQuery = true)
+    int materializeCounts(@Param("memoIds") Collection<Long> memoIds);
+
+    void deleteAllByMemoId(Long memoId);
+}
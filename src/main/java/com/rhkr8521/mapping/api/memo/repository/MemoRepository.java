@@ -1,12 +1,14 @@
 package com.rhkr8521.mapping.api.memo.repository;
 
 import com.rhkr8521.mapping.api.memo.entity.Memo;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 import org.springframework.data.jpa.repository.JpaRepository;
 
+import java.time.LocalDateTime;
 import java.util.List;
 
 @Repository
@@ -23,25 +25,96 @@ public interface MemoRepository extends JpaRepository<Memo, Long> {
 
     List<Memo> findByMemberIdAndIsDeletedFalseOrderByCreatedAtDesc(Long memberId);
 
-    // 좋아요 증가
+    // 내가 작성한 메모 첫 묶음 조회 (최신순)
+    @Query("select m from Memo m " +
+            "where m.member.id = :memberId and m.isDeleted = false " +
+            "order by m.createdAt desc, m.id desc")
+    List<Memo> findMyMemoFirstPage(@Param("memberId") Long memberId, Pageable pageable);
+
+    // 내가 작성한 메모 다음 묶음 조회 (커서 (createdAt, id) 이후부터 최신순)
+    @Query("select m from Memo m " +
+            "where m.member.id = :memberId and m.isDeleted = false " +
+            "and (m.createdAt < :createdAt or (m.createdAt = :createdAt and m.id < :memoId)) " +
+            "order by m.createdAt desc, m.id desc")
+    List<Memo> findMyMemoPageAfter(@Param("memberId") Long memberId,
+                                   @Param("createdAt") LocalDateTime createdAt,
+                                   @Param("memoId") Long memoId,
+                                   Pageable pageable);
+
+    // 메모 이미지 일괄 로딩 (이미 조회한 메모의 이미지 컬렉션을 한 번에 채움)
+    @Query("select distinct m from Memo m left join fetch m.images where m.id in :memoIds")
+    List<Memo> findWithImagesByIdIn(@Param("memoIds") List<Long> memoIds);
+
+    // 좋아요 증가 (샤딩 카운터 메모는 0 반환)
+    @Modifying
+    @Query("update Memo m set m.likeCnt = m.likeCnt + 1 where m.id = :memoId and m.shardedCounter = false")
+    int incrementLikeCount(@Param("memoId") Long memoId);
+
+    // 좋아요 감소 (샤딩 카운터 메모는 0 반환)
+    @Modifying
+    @Query("update Memo m set m.likeCnt = case when m.likeCnt > 0 then m.likeCnt - 1 else 0 end where m.id = :memoId and m.shardedCounter = false")
+    int decrementLikeCount(@Param("memoId") Long memoId);
+
+    // 싫어요 증가 (샤딩 카운터 메모는 0 반환)
     @Modifying
-    @Query("update Memo m set m.likeCnt = m.likeCnt + 1 where m.id = :memoId")
-    void incrementLikeCount(@Param("memoId") Long memoId);
+    @Query("update Memo m set m.hateCnt = m.hateCnt + 1 where m.id = :memoId and m.shardedCounter = false")
+    int incrementHateCount(@Param("memoId") Long memoId);
 
-    // 좋아요 감소
+    // 싫어요 감소 (샤딩 카운터 메모는 0 반환)
     @Modifying
-    @Query("update Memo m set m.likeCnt = case when m.likeCnt > 0 then m.likeCnt - 1 else 0 end where m.id = :memoId")
-    void decrementLikeCount(@Param("memoId") Long memoId);
+    @Query("update Memo m set m.hateCnt = case when m.hateCnt > 0 then m.hateCnt - 1 else 0 end where m.id = :memoId and m.shardedCounter = false")
+    int decrementHateCount(@Param("memoId") Long memoId);
+
+    // 샤딩 카운터 모드인 메모 ID 목록
+    @Query("select m.id from Memo m where m.shardedCounter = true")
+    List<Long> findShardedCounterMemoIds();
 
-    // 싫어요 증가
+    // 샤딩 카운터 모드로 전환 (이미 전환된 경우 0 반환)
     @Modifying
-    @Query("update Memo m set m.hateCnt = m.hateCnt + 1 where m.id = :memoId")
-    void incrementHateCount(@Param("memoId") Long memoId);
+    @Query("update Memo m set m.shardedCounter = true where m.id = :memoId and m.shardedCounter = false")
+    int promoteToShardedCounter(@Param("memoId") Long memoId);
 
-    // 싫어요 감소
+    // 반응 테이블 기준으로 좋아요/싫어요 수 재계산
     @Modifying
-    @Query("update Memo m set m.hateCnt = case when m.hateCnt > 0 then m.hateCnt - 1 else 0 end where m.id = :memoId")
-    void decrementHateCount(@Param("memoId") Long memoId);
+    @Query(value = "UPDATE memo m SET " +
+            "m.like_cnt = (SELECT COUNT(*) FROM memo_like l WHERE l.memo_id = m.memo_id), " +
+            "m.hate_cnt = (SELECT COUNT(*) FROM memo_hate h WHERE h.memo_id = m.memo_id)",
+            nativeQuery = true)
+    int recountReactions();
+
+    // 댓글 수/별점 집계 증감
+    @Modifying
+    @Query("update Memo m set m.commentCnt = m.commentCnt + :commentDelta, " +
+            "m.ratingSum = m.ratingSum + :ratingSumDelta, " +
+            "m.ratingCount = m.ratingCount + :ratingCountDelta " +
+            "where m.id = :memoId")
+    int adjustCommentStats(@Param("memoId") Long memoId,
+                           @Param("commentDelta") long commentDelta,
+                           @Param("ratingSumDelta") long ratingSumDelta,
+                           @Param("ratingCountDelta") long ratingCountDelta);
+
+    // fromId 다음부터 limit 건 구간의 마지막 메모 ID (남은 메모가 없으면 null)
+    @Query(value = "SELECT MAX(t.memo_id) FROM (SELECT memo_id FROM memo WHERE memo_id > :fromId " +
+            "ORDER BY memo_id LIMIT :limit) t", nativeQuery = true)
+    Long findIdRangeUpperBound(@Param("fromId") long fromId, @Param("limit") int limit);
+
+    // (fromId, toId] 구간 메모의 댓글 수/별점 집계를 댓글 테이블 기준으로 재계산 (값이 다른 메모만 갱신)
+    @Modifying
+    @Query(value = "UPDATE memo m " +
+            "LEFT JOIN (SELECT c.memo_id, COUNT(*) AS comment_cnt, " +
+            "SUM(CASE WHEN c.rating > 0 THEN c.rating ELSE 0 END) AS rating_sum, " +
+            "SUM(CASE WHEN c.rating > 0 THEN 1 ELSE 0 END) AS rating_count " +
+            "FROM comment c WHERE c.is_deleted = false AND c.memo_id > :fromId AND c.memo_id <= :toId " +
+            "GROUP BY c.memo_id) s ON s.memo_id = m.memo_id " +
+            "SET m.comment_cnt = COALESCE(s.comment_cnt, 0), " +
+            "m.rating_sum = COALESCE(s.rating_sum, 0), " +
+            "m.rating_count = COALESCE(s.rating_count, 0) " +
+            "WHERE m.memo_id > :fromId AND m.memo_id <= :toId " +
+            "AND (m.comment_cnt <> COALESCE(s.comment_cnt, 0) " +
+            "OR m.rating_sum <> COALESCE(s.rating_sum, 0) " +
+            "OR m.rating_count <> COALESCE(s.rating_count, 0))",
+            nativeQuery = true)
+    int reconcileCommentStats(@Param("fromId") long fromId, @Param("toId") long toId);
 
     List<Memo> findByMemberId(Long memberId);
 }
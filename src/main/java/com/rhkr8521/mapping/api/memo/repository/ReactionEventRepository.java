@@ -0,0 +1,18 @@
+package com.rhkr8521.mapping.api.memo.repository;
+
+import com.rhkr8521.mapping.api.memo.entity.ReactionEvent;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+@Repository
+public interface ReactionEventRepository extends JpaRepository<ReactionEvent, Long> {
+
+    // 체크포인트 이후 이벤트 / 리플레이용 순차 조회
+    List<ReactionEvent> findByIdGreaterThanOrderByIdAsc(Long lastEventId, Pageable pageable);
+
+    void deleteAllByMemoId(Long memoId);
+    void deleteAllByUserId(Long userId);
+}
@@ -0,0 +1,20 @@
+package com.rhkr8521.mapping.api.memo.repository;
+
+import com.rhkr8521.mapping.api.memo.entity.ReactionProjectionCheckpoint;
+import jakarta.persistence.LockModeType;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.Optional;
+
+@Repository
+public interface ReactionProjectionCheckpointRepository extends JpaRepository<ReactionProjectionCheckpoint, String> {
+
+    // 여러 인스턴스 중 하나만 프로젝션하도록 체크포인트 행을 잠금
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("select c from ReactionProjectionCheckpoint c where c.projector = :projector")
+    Optional<ReactionProjectionCheckpoint> findForUpdate(@Param("projector") String projector);
+}
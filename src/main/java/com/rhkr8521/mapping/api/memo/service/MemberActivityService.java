@@ -0,0 +1,40 @@
+package com.rhkr8521.mapping.api.memo.service;
+
+import com.rhkr8521.mapping.api.comment.repository.CommentRepository;
+import com.rhkr8521.mapping.api.memo.entity.MemberActivityType;
+import com.rhkr8521.mapping.api.memo.repository.MemberActivityRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDateTime;
+
+/**
+ * member_activity 읽기 모델 갱신
+ * - 댓글 작성/삭제는 CommentService, 좋아요는 MemoReactionProjector 에서 호출 (호출한 쪽 트랜잭션에 참여)
+ * - 기존 댓글/좋아요 초기 적재는 MemberActivityBackfillScheduler 에서 처리
+ */
+@Service
+@RequiredArgsConstructor
+public class MemberActivityService {
+
+    private final MemberActivityRepository memberActivityRepository;
+    private final CommentRepository commentRepository;
+
+    // 활동 기록 (같은 메모에 다시 활동하면 마지막 활동 시각만 갱신)
+    public void record(Long userId, MemberActivityType activityType, Long memoId, LocalDateTime activityAt) {
+        memberActivityRepository.upsert(userId, activityType.name(), memoId, activityAt);
+    }
+
+    // 댓글 삭제 후 해당 메모에 남은 댓글이 없으면 댓글 활동 제거
+    public void removeCommentedIfNone(Long userId, Long memoId) {
+        if (!commentRepository.existsByMemoIdAndMemberIdAndIsDeletedFalse(memoId, userId)) {
+            memberActivityRepository.deleteActivity(userId, MemberActivityType.COMMENTED, memoId);
+        }
+    }
+
+    // 좋아요 취소 시 좋아요 활동 제거
+    public void removeLiked(Long userId, Long memoId) {
+        memberActivityRepository.deleteActivity(userId, MemberActivityType.LIKED, memoId);
+    }
+
+}
@@ -0,0 +1,176 @@
+package com.rhkr8521.mapping.api.memo.service;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.rhkr8521.mapping.api.memo.repository.MemoCounterShardRepository;
+import com.rhkr8521.mapping.api.memo.repository.MemoRepository;
+import com.rhkr8521.mapping.common.util.TransactionUtils;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 메모 좋아요/싫어요 카운터 관리
+ * - 평소에는 memo.like_cnt / hate_cnt 를 직접 증감
+ * - 분당 반응 수가 임계치를 넘은 메모는 memo_counter_shard 의 N개 슬롯 중 임의의 슬롯에 증감하고,
+ *   MemoCounterShardScheduler 가 주기적으로 슬롯 합계를 memo 에 반영
+ * - 합산 대상 표시는 인스턴스 로컬이므로, 재시작이나 다른 인스턴스 종료로 빠진 메모는 주기적인 전체 표시로 다시 합산
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class MemoCounterService {
+
+    private static final long RATE_WINDOW_MILLIS = 60_000L;
+    private static final long PROMOTED_CACHE_MAX_SIZE = 10_000L;
+    private static final Duration PROMOTED_CACHE_TTL = Duration.ofHours(1);
+
+    private final MemoRepository memoRepository;
+    private final MemoCounterShardRepository memoCounterShardRepository;
+
+    @Value("${memo.counter.shard.slots:16}")
+    private int shardSlots;
+
+    @Value("${memo.counter.shard.promote-threshold:300}")
+    private long promoteThreshold; // 분당 반응 수
+
+    // 메모별 최근 1분 반응 수 (인스턴스 로컬)
+    private final Map<Long, ReactionWindow> reactionWindows = new ConcurrentHashMap<>();
+
+    // 슬롯에 반영되었지만 아직 memo 에 합산되지 않은 메모 ID
+    private final Set<Long> dirtyShardedMemoIds = ConcurrentHashMap.newKeySet();
+
+    // 샤딩 카운터 모드로 전환한 메모 ID (전환은 되돌리지 않으므로 한 번만 시도)
+    // - 만료된 뒤 다시 시도해도 이미 전환된 메모는 갱신되지 않으므로 크기와 보관 시간을 제한
+    private final Map<Long, Boolean> promotedMemoIds = Caffeine.newBuilder()
+            .maximumSize(PROMOTED_CACHE_MAX_SIZE)
+            .expireAfterWrite(PROMOTED_CACHE_TTL)
+            .<Long, Boolean>build()
+            .asMap();
+
+    // 좋아요 증가
+    public void incrementLike(Long memoId) {
+        promoteIfHot(memoId);
+        if (memoRepository.incrementLikeCount(memoId) == 0) {
+            addToRandomSlot(memoId, 1, 0);
+        }
+    }
+
+    // 좋아요 감소
+    public void decrementLike(Long memoId) {
+        promoteIfHot(memoId);
+        if (memoRepository.decrementLikeCount(memoId) == 0) {
+            addToRandomSlot(memoId, -1, 0);
+        }
+    }
+
+    // 싫어요 증가
+    public void incrementHate(Long memoId) {
+        promoteIfHot(memoId);
+        if (memoRepository.incrementHateCount(memoId) == 0) {
+            addToRandomSlot(memoId, 0, 1);
+        }
+    }
+
+    // 싫어요 감소
+    public void decrementHate(Long memoId) {
+        promoteIfHot(memoId);
+        if (memoRepository.decrementHateCount(memoId) == 0) {
+            addToRandomSlot(memoId, 0, -1);
+        }
+    }
+
+    // 슬롯 합계를 memo 카운트에 반영 (스케줄러에서 호출)
+    @Transactional
+    public void materializeShardedCounts() {
+        if (dirtyShardedMemoIds.isEmpty()) {
+            return;
+        }
+
+        List<Long> memoIds = new ArrayList<>(dirtyShardedMemoIds);
+        memoIds.forEach(dirtyShardedMemoIds::remove);
+
+        try {
+            memoCounterShardRepository.materializeCounts(memoIds);
+        } catch (RuntimeException e) {
+            // 실패한 메모는 다음 주기에 다시 합산
+            dirtyShardedMemoIds.addAll(memoIds);
+            throw e;
+        }
+    }
+
+    // 샤딩 카운터 모드인 메모를 모두 합산 대상으로 표시 (시작 시와 주기적으로 호출)
+    @Transactional(readOnly = true)
+    public void markAllShardedDirty() {
+        dirtyShardedMemoIds.addAll(memoRepository.findShardedCounterMemoIds());
+    }
+
+    // 오래된 반응 집계 윈도우 정리
+    public void evictIdleWindows() {
+        long now = System.currentTimeMillis();
+        reactionWindows.entrySet().removeIf(entry -> now - entry.getValue().startedAt >= RATE_WINDOW_MILLIS * 2);
+    }
+
+    // 반응 수가 임계치를 넘으면 샤딩 카운터 모드로 전환
+    private void promoteIfHot(Long memoId) {
+        ReactionWindow window = reactionWindows.computeIfAbsent(memoId, id -> new ReactionWindow());
+        // 동시 증가로 임계치를 건너뛰어도 전환되도록 이상 비교, 전환은 메모당 한 번만 시도
+        if (window.record(System.currentTimeMillis()) < promoteThreshold
+                || promotedMemoIds.putIfAbsent(memoId, Boolean.TRUE) != null) {
+            return;
+        }
+
+        // 전환 트랜잭션이 롤백되면 다음 반응에서 다시 시도
+        TransactionUtils.runAfterRollback(() -> promotedMemoIds.remove(memoId));
+        try {
+            // 메모 행을 잠근 상태에서 현재 카운트를 0번 슬롯으로 옮겨 합계가 끊기지 않도록 처리
+            if (memoRepository.promoteToShardedCounter(memoId) > 0) {
+                memoCounterShardRepository.seedFromMemo(memoId);
+                log.info("메모 {} 샤딩 카운터 모드 전환 (슬롯 수: {})", memoId, shardSlots);
+            }
+        } catch (RuntimeException e) {
+            promotedMemoIds.remove(memoId);
+            throw e;
+        }
+    }
+
+    private void addToRandomSlot(Long memoId, long likeDelta, long hateDelta) {
+        int slot = pickSlot(shardSlots);
+        memoCounterShardRepository.addToSlot(memoId, slot, likeDelta, hateDelta);
+        // 슬롯 증감이 커밋되기 전에 합산되어 빠지지 않도록 커밋 이후 표시
+        TransactionUtils.runAfterCommit(() -> dirtyShardedMemoIds.add(memoId));
+    }
+
+    // 증감을 반영할 슬롯 (임의 선택으로 같은 행 잠금 경합을 분산)
+    static int pickSlot(int slots) {
+        return ThreadLocalRandom.current().nextInt(slots);
+    }
+
+    // 고정 1분 윈도우 반응 카운터
+    static final class ReactionWindow {
+        private volatile long startedAt = System.currentTimeMillis();
+        private final AtomicLong count = new AtomicLong();
+
+        long record(long now) {
+            if (now - startedAt >= RATE_WINDOW_MILLIS) {
+                synchronized (this) {
+                    if (now - startedAt >= RATE_WINDOW_MILLIS) {
+                        startedAt = now;
+                        count.set(0);
+                    }
+                }
+            }
+            return count.incrementAndGet();
+        }
+    }
+}
@@ -0,0 +1,242 @@
+package com.rhkr8521.mapping.api.memo.service;
+
+import com.rhkr8521.mapping.api.memo.entity.ReactionAction;
+import com.rhkr8521.mapping.api.memo.entity.ReactionEvent;
+import com.rhkr8521.mapping.api.memo.entity.ReactionState;
+import com.rhkr8521.mapping.api.memo.repository.MemoHateRepository;
+import com.rhkr8521.mapping.api.memo.repository.MemoLikeRepository;
+import com.rhkr8521.mapping.api.memo.repository.MemoRepository;
+import com.rhkr8521.mapping.api.memo.repository.ReactionEventRepository;
+import com.rhkr8521.mapping.common.exception.NotFoundException;
+import com.rhkr8521.mapping.common.response.ErrorStatus;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 같은 사용자가 같은 메모에 짧은 시간 동안 연속으로 누른 좋아요/싫어요 토글을 합쳐서 반응 이벤트 로그에 추가
+ * - 토글 묶음을 같은 결과를 내는 가장 짧은 액션(대부분 토글 1건 또는 SET 1건)으로 줄여 기록하고,
+ *   실제 상태는 프로젝터가 이벤트 순서대로 DB 상태에 적용해 결정 (인스턴스 메모리의 상태로 SET 하지 않음)
+ * - 응답은 이 인스턴스가 아는 상태 기준의 예상 최종 상태 (다른 인스턴스에서 동시에 누른 탭은 반영되지 않을 수 있음)
+ * - 윈도우 안의 두 번째 탭부터는 DB 를 전혀 사용하지 않음
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class MemoReactionCoalescer {
+
+    // 반영 직후 상태를 기억하는 시간 (프로젝션 지연 동안 DB 상태 대신 사용)
+    private static final long KNOWN_STATE_TTL_MILLIS = 30_000L;
+
+    private final MemoRepository memoRepository;
+    private final MemoLikeRepository memoLikeRepository;
+    private final MemoHateRepository memoHateRepository;
+    private final ReactionEventRepository reactionEventRepository;
+
+    @Value("${memo.reaction.coalesce-window-ms:1500}")
+    private long coalesceWindowMillis;
+
+    private final Map<ReactionKey, PendingReaction> pendingReactions = new ConcurrentHashMap<>();
+    private final Map<ReactionKey, KnownState> knownStates = new ConcurrentHashMap<>();
+
+    // 토글 요청 반영 후 예상 최종 상태 반환
+    public ReactionState toggle(Long memoId, Long userId, ReactionAction action) {
+        ReactionKey key = new ReactionKey(memoId, userId);
+
+        while (true) {
+            PendingReaction pending = pendingReactions.get(key);
+            if (pending == null) {
+                ReactionState base = loadBaseState(key);
+                pending = pendingReactions.computeIfAbsent(key, k -> new PendingReaction(base, System.currentTimeMillis()));
+            }
+
+            synchronized (pending) {
+                // 방금 반영(flush)된 항목이면 새 윈도우로 다시 시도
+                if (pending.flushed) {
+                    continue;
+                }
+                pending.actions.add(action);
+                pending.current = pending.current.toggle(action);
+                return pending.current;
+            }
+        }
+    }
+
+    // 윈도우가 지난 토글을 합쳐 이벤트 로그에 추가 (스케줄러에서 호출)
+    @Transactional
+    public void flushDue() {
+        flush(System.currentTimeMillis() - coalesceWindowMillis);
+    }
+
+    // 종료 시 남은 토글 모두 반영
+    @PreDestroy
+    public void flushAll() {
+        flush(Long.MAX_VALUE);
+    }
+
+    // 오래된 최근 상태 정리
+    public void evictKnownStates() {
+        long now = System.currentTimeMillis();
+        knownStates.entrySet().removeIf(entry -> now - entry.getValue().flushedAt() >= KNOWN_STATE_TTL_MILLIS);
+    }
+
+    private void flush(long openedBefore) {
+        Map<ReactionKey, PendingReaction> drained = new LinkedHashMap<>();
+        List<ReactionEvent> events = new ArrayList<>();
+        long now = System.currentTimeMillis();
+
+        for (Map.Entry<ReactionKey, PendingReaction> entry : pendingReactions.entrySet()) {
+            ReactionKey key = entry.getKey();
+            PendingReaction pending = entry.getValue();
+            if (pending.openedAt >= openedBefore) {
+                continue;
+            }
+
+            List<ReactionAction> actions;
+            synchronized (pending) {
+                pending.flushed = true;
+                pendingReactions.remove(key, pending);
+                actions = List.copyOf(pending.actions);
+            }
+
+            drained.put(key, pending);
+            knownStates.put(key, new KnownState(pending.current, now));
+
+            // 서로 상쇄된 토글은 DB 에 쓰지 않음
+            for (ReactionAction action : reduce(actions)) {
+                events.add(ReactionEvent.builder()
+                        .memoId(key.memoId())
+                        .userId(key.userId())
+                        .action(action)
+                        .build());
+            }
+        }
+
+        if (events.isEmpty()) {
+            return;
+        }
+
+        try {
+            reactionEventRepository.saveAll(events);
+        } catch (RuntimeException e) {
+            // 저장에 실패한 토글은 다시 대기열에 넣어 다음 주기에 반영 (그 사이 들어온 토글은 뒤에 이어 붙임)
+            drained.forEach(this::requeue);
+            log.warn("반응 토글 {}건 반영 실패, 다음 주기에 다시 시도: {}", events.size(), e.getMessage());
+            throw e;
+        }
+    }
+
+    // 반영에 실패한 토글을 대기열 앞쪽에 되돌림
+    private void requeue(ReactionKey key, PendingReaction failed) {
+        knownStates.remove(key);
+        pendingReactions.compute(key, (k, newer) -> {
+            if (newer == null) {
+                PendingReaction restored = new PendingReaction(failed.base, failed.openedAt);
+                restored.actions.addAll(failed.actions);
+                restored.current = failed.current;
+                return restored;
+            }
+            synchronized (newer) {
+                newer.base = failed.base;
+                newer.openedAt = failed.openedAt;
+                newer.actions.addAll(0, failed.actions);
+                ReactionState current = failed.base;
+                for (ReactionAction action : newer.actions) {
+                    current = current.toggle(action);
+                }
+                newer.current = current;
+            }
+            return newer;
+        });
+    }
+
+    // 토글 묶음과 모든 시작 상태에서 같은 결과를 내는 가장 짧은 액션 목록 (2건 이하로 줄지 않으면 그대로)
+    static List<ReactionAction> reduce(List<ReactionAction> actions) {
+        ReactionState[] target = apply(actions);
+        if (Arrays.equals(target, ReactionState.values())) {
+            return List.of();
+        }
+        if (actions.size() <= 1) {
+            return actions;
+        }
+
+        ReactionAction[] candidates = ReactionAction.values();
+        for (ReactionAction first : candidates) {
+            if (Arrays.equals(apply(List.of(first)), target)) {
+                return List.of(first);
+            }
+        }
+        if (actions.size() > 2) {
+            for (ReactionAction first : candidates) {
+                for (ReactionAction second : candidates) {
+                    if (Arrays.equals(apply(List.of(first, second)), target)) {
+                        return List.of(first, second);
+                    }
+                }
+            }
+        }
+        return actions;
+    }
+
+    // NONE, LIKE, HATE 각각에서 시작해 액션을 적용한 결과
+    private static ReactionState[] apply(List<ReactionAction> actions) {
+        ReactionState[] result = ReactionState.values();
+        for (int i = 0; i < result.length; i++) {
+            for (ReactionAction action : actions) {
+                result[i] = result[i].toggle(action);
+            }
+        }
+        return result;
+    }
+
+    // 윈도우 시작 시점의 상태 (최근 반영한 상태가 있으면 프로젝션 지연을 고려해 우선 사용)
+    private ReactionState loadBaseState(ReactionKey key) {
+        KnownState known = knownStates.get(key);
+        if (known != null && System.currentTimeMillis() - known.flushedAt() < KNOWN_STATE_TTL_MILLIS) {
+            return known.state();
+        }
+
+        // 메모 존재 여부 체크
+        if (!memoRepository.existsById(key.memoId())) {
+            throw new NotFoundException(ErrorStatus.MEMO_NOTFOUND_EXCEPTION.getMessage());
+        }
+
+        if (memoLikeRepository.findByMemoIdAndMemberId(key.memoId(), key.userId()).isPresent()) {
+            return ReactionState.LIKE;
+        }
+        if (memoHateRepository.findByMemoIdAndMemberId(key.memoId(), key.userId()).isPresent()) {
+            return ReactionState.HATE;
+        }
+        return ReactionState.NONE;
+    }
+
+    private record ReactionKey(Long memoId, Long userId) {
+    }
+
+    private record KnownState(ReactionState state, long flushedAt) {
+    }
+
+    private static final class PendingReaction {
+        private ReactionState base;
+        private volatile long openedAt;
+        private ReactionState current;
+        private boolean flushed;
+        private final List<ReactionAction> actions = new ArrayList<>();
+
+        private PendingReaction(ReactionState base, long openedAt) {
+            this.base = base;
+            this.openedAt = openedAt;
+            this.current = base;
+        }
+    }
+}
@@ -0,0 +1,180 @@
+package com.rhkr8521.mapping.api.memo.service;
+
+import com.rhkr8521.mapping.api.member.repository.MemberRepository;
+import com.rhkr8521.mapping.api.memo.entity.*;
+import com.rhkr8521.mapping.api.memo.repository.*;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+import java.util.function.Consumer;
+
+/**
+ * reaction_event 로그를 순서대로 읽어 memo_like / memo_hate 와 메모 카운트에 반영하는 프로젝터
+ * - 체크포인트 행을 잠그고 처리하므로 여러 인스턴스가 떠 있어도 한 번에 하나만 반영
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class MemoReactionProjector {
+
+    private static final String PROJECTOR_NAME = "memo-reaction";
+
+    private final ReactionEventRepository reactionEventRepository;
+    private final ReactionProjectionCheckpointRepository checkpointRepository;
+    private final MemoRepository memoRepository;
+    private final MemoLikeRepository memoLikeRepository;
+    private final MemoHateRepository memoHateRepository;
+    private final MemoCounterShardRepository memoCounterShardRepository;
+    private final MemberRepository memberRepository;
+    private final MemoCounterService memoCounterService;
+    private final MemberActivityService memberActivityService;
+
+    @Value("${memo.reaction.projection.batch-size:500}")
+    private int batchSize;
+
+    // 이벤트 추가 트랜잭션이 커밋될 시간을 두고 반영 (IDENTITY ID 는 커밋 순서와 다를 수 있음)
+    @Value("${memo.reaction.projection.settle-ms:1000}")
+    private long settleMillis;
+
+    // ID 가 비어 있는 구간을 롤백된 ID 로 보고 건너뛰기까지 기다리는 시간
+    @Value("${memo.reaction.projection.gap-timeout-ms:60000}")
+    private long gapTimeoutMillis;
+
+    // 처음 발견한 빈 ID 와 발견 시각 (스케줄러 한 스레드에서만 사용)
+    private long gapEventId;
+    private long gapFirstSeenAt;
+
+    // 다음 이벤트 묶음 반영 후 반영한 이벤트 수 반환
+    // - 체크포인트 바로 다음부터 ID 가 이어지고 커밋될 시간이 지난 이벤트까지만 반영
+    // - 늦게 커밋되는 낮은 ID 를 건너뛰지 않도록 첫 미확정 이벤트나 빈 ID 에서 멈춤
+    @Transactional
+    public int projectNextBatch() {
+        ReactionProjectionCheckpoint checkpoint = checkpointRepository.findForUpdate(PROJECTOR_NAME)
+                .orElseGet(() -> checkpointRepository.save(ReactionProjectionCheckpoint.builder()
+                        .projector(PROJECTOR_NAME)
+                        .lastEventId(0L)
+                        .build()));
+
+        List<ReactionEvent> events = reactionEventRepository.findByIdGreaterThanOrderByIdAsc(
+                checkpoint.getLastEventId(), PageRequest.of(0, batchSize));
+
+        LocalDateTime settledBefore = LocalDateTime.now().minusNanos(settleMillis * 1_000_000L);
+        long lastEventId = checkpoint.getLastEventId();
+        int applied = 0;
+
+        for (ReactionEvent event : events) {
+            if (!event.getCreatedAt().isBefore(settledBefore)) {
+                break;
+            }
+            // 첫 이벤트(체크포인트 0)가 아니면서 ID 가 비어 있으면 롤백된 ID 로 판단될 때까지 대기
+            if (lastEventId > 0 && event.getId() != lastEventId + 1 && !gapExpired(lastEventId + 1)) {
+                break;
+            }
+            apply(event);
+            lastEventId = event.getId();
+            applied++;
+        }
+
+        if (applied > 0) {
+            checkpointRepository.save(checkpoint.advanceTo(lastEventId));
+        }
+        return applied;
+    }
+
+    // 같은 빈 ID 가 제한 시간 이상 채워지지 않으면 롤백된 것으로 보고 건너뜀
+    private boolean gapExpired(long missingEventId) {
+        long now = System.currentTimeMillis();
+        if (gapEventId != missingEventId) {
+            gapEventId = missingEventId;
+            gapFirstSeenAt = now;
+            return false;
+        }
+        if (now - gapFirstSeenAt < gapTimeoutMillis) {
+            return false;
+        }
+        log.warn("반응 이벤트 ID {} 가 {}ms 동안 보이지 않아 건너뜁니다.", missingEventId, gapTimeoutMillis);
+        return true;
+    }
+
+    // 이벤트 로그를 처음부터 순서대로 다른 읽기 모델에 흘려보내는 메서드
+    @Transactional(readOnly = true)
+    public void replay(long fromEventIdExclusive, Consumer<ReactionEvent> consumer) {
+        long lastEventId = fromEventIdExclusive;
+        List<ReactionEvent> events;
+        do {
+            events = reactionEventRepository.findByIdGreaterThanOrderByIdAsc(lastEventId, PageRequest.of(0, batchSize));
+            for (ReactionEvent event : events) {
+                consumer.accept(event);
+                lastEventId = event.getId();
+            }
+        } while (events.size() == batchSize);
+    }
+
+    // 반응 테이블 기준으로 좋아요/싫어요 수 재계산 (샤딩 카운터 슬롯도 다시 구성)
+    @Transactional
+    public void rebuildCounts() {
+        memoRepository.recountReactions();
+        memoCounterShardRepository.deleteAllInBatch();
+        memoCounterShardRepository.seedAllShardedMemos();
+        log.info("메모 반응 카운트 재계산 완료");
+    }
+
+    private void apply(ReactionEvent event) {
+        Long memoId = event.getMemoId();
+        Long userId = event.getUserId();
+
+        // 이벤트 이후 삭제된 메모/회원은 건너뜀
+        if (!memoRepository.existsById(memoId) || !memberRepository.existsById(userId)) {
+            log.debug("반응 이벤트 {} 건너뜀 (메모 또는 회원 없음)", event.getId());
+            return;
+        }
+
+        // 현재 반응 상태 확인
+        Optional<MemoLike> existingLike = memoLikeRepository.findByMemoIdAndMemberId(memoId, userId);
+        Optional<MemoHate> existingHate = existingLike.isPresent()
+                ? Optional.empty()
+                : memoHateRepository.findByMemoIdAndMemberId(memoId, userId);
+
+        ReactionState current = existingLike.isPresent() ? ReactionState.LIKE
+                : existingHate.isPresent() ? ReactionState.HATE
+                : ReactionState.NONE;
+        ReactionState target = current.toggle(event.getAction());
+
+        if (target == current) {
+            return;
+        }
+
+        // 기존 반응 취소 (좋아요/싫어요 상호 배타성 보장)
+        if (existingLike.isPresent()) {
+            memoLikeRepository.delete(existingLike.get());
+            memoCounterService.decrementLike(memoId);
+            memberActivityService.removeLiked(userId, memoId);
+        } else if (existingHate.isPresent()) {
+            memoHateRepository.delete(existingHate.get());
+            memoCounterService.decrementHate(memoId);
+        }
+
+        // 새 반응 추가
+        if (target == ReactionState.LIKE) {
+            memoLikeRepository.save(MemoLike.builder()
+                    .memo(memoRepository.getReferenceById(memoId))
+                    .member(memberRepository.getReferenceById(userId))
+                    .build());
+            memoCounterService.incrementLike(memoId);
+            memberActivityService.record(userId, MemberActivityType.LIKED, memoId, event.getCreatedAt());
+        } else if (target == ReactionState.HATE) {
+            memoHateRepository.save(MemoHate.builder()
+                    .memo(memoRepository.getReferenceById(memoId))
+                    .member(memberRepository.getReferenceById(userId))
+                    .build());
+            memoCounterService.incrementHate(memoId);
+        }
+    }
+}
@@ -1,22 +1,26 @@
 package com.rhkr8521.mapping.api.memo.service;
 
 import com.rhkr8521.mapping.api.aws.s3.S3Service;
-import com.rhkr8521.mapping.api.comment.repository.CommentRepository;
+import com.rhkr8521.mapping.api.member.cache.MemberProfile;
+import com.rhkr8521.mapping.api.member.cache.MemberProfileCache;
 import com.rhkr8521.mapping.api.member.entity.Member;
 import com.rhkr8521.mapping.api.member.repository.MemberRepository;
-import com.rhkr8521.mapping.api.member.service.MemberService;
 import com.rhkr8521.mapping.api.memo.dto.*;
 import com.rhkr8521.mapping.api.memo.entity.*;
+import com.rhkr8521.mapping.api.memo.repository.MemberActivityRepository;
 import com.rhkr8521.mapping.api.memo.repository.MemoHateRepository;
 import com.rhkr8521.mapping.api.memo.repository.MemoLikeRepository;
 import com.rhkr8521.mapping.api.memo.repository.MemoRepository;
 import com.rhkr8521.mapping.api.watchdog.dto.ProfanityResponseDTO;
 import com.rhkr8521.mapping.api.watchdog.service.ProfanityDetectionService;
+import com.rhkr8521.mapping.common.context.ViewerContext;
 import com.rhkr8521.mapping.common.exception.BadRequestException;
 import com.rhkr8521.mapping.common.exception.NotFoundException;
+import com.rhkr8521.mapping.common.response.CursorPageResponseDTO;
 import com.rhkr8521.mapping.common.response.ErrorStatus;
+import com.rhkr8521.mapping.common.util.KeysetCursor;
 import lombok.RequiredArgsConstructor;
-import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.multipart.MultipartFile;
@@ -27,19 +31,28 @@ import java.time.format.DateTimeFormatter;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
-import java.util.Optional;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.function.Supplier;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 @Service
 @RequiredArgsConstructor
 public class MemoService {
 
+    private static final int MAX_ACTIVITY_PAGE_SIZE = 100;
+    // 스트리밍 조회 시 한 번에 읽는 묶음 크기
+    private static final int STREAM_CHUNK_SIZE = 100;
+
     private final MemoRepository memoRepository;
     private final MemoLikeRepository memoLikeRepository;
     private final MemoHateRepository memoHateRepository;
-    private final CommentRepository commentRepository;
+    private final MemoReactionCoalescer memoReactionCoalescer;
+    private final MemberActivityRepository memberActivityRepository;
+    private final ViewerContext viewerContext;
+    private final MemberProfileCache memberProfileCache;
     private final MemberRepository memberRepository;
-    private final MemberService memberService;
     private final S3Service s3Service;
     private final ProfanityDetectionService profanityDetectionService;
 
@@ -129,7 +142,7 @@ public class MemoService {
     }
 
     // 거리 계산 메서드(단위: km)
-    private double calculateDistance(double lat1, double lng1, double lat2, double lng2) {
+    static double calculateDistance(double lat1, double lng1, double lat2, double lng2) {
         double earthRadius = 6371; // km
         double dLat = Math.toRadians(lat2 - lat1);
         double dLng = Math.toRadians(lng2 - lng1);
@@ -158,36 +171,14 @@ public class MemoService {
 
     // 전체 메모 조회(공개 + 비공개)
     @Transactional(readOnly = true)
-    public List<MemoTotalListResponseDTO> getMemosWithinRadius(double lat, double lng, double km, UserDetails userDetails) {
+    public List<MemoTotalListResponseDTO> getMemosWithinRadius(double lat, double lng, double km) {
         List<Memo> allMemos = memoRepository.findMemosWithinRadius(lat, lng, km);
-        final List<Long> blockedIds;
-
-        if (userDetails != null) {
-            Long userId = memberService.getUserIdByEmail(userDetails.getUsername());
-            blockedIds = memberService.getBlockedUserIds(userId);
-        } else {
-            blockedIds = Collections.emptyList();
-        }
 
-        // 공개 메모 필터: 차단된 사용자의 메모는 제외
-        List<Memo> publicMemos = allMemos.stream()
-                .filter(m -> !m.isSecret())
-                .filter(m -> blockedIds.isEmpty() || !blockedIds.contains(m.getMember().getId()))
-                .toList();
-
-        List<Memo> privateMemos = new ArrayList<>();
-        if (userDetails != null) {
-            Long userId = memberService.getUserIdByEmail(userDetails.getUsername());
-            privateMemos = allMemos.stream()
-                    .filter(m -> m.isSecret() && m.getMember().getId().equals(userId))
-                    .toList();
-        }
-
-        // 공개 메모와 내 프라이빗 메모 합치기
-        List<Memo> combinedMemos = new ArrayList<>(publicMemos);
-        combinedMemos.addAll(privateMemos);
-
-        return combinedMemos.stream()
+        // 공개 메모(서로 차단 관계인 사용자의 메모 제외)와 내 프라이빗 메모
+        return allMemos.stream()
+                .filter(m -> m.isSecret()
+                        ? viewerContext.isViewer(m.getMember().getId())
+                        : !viewerContext.isHidden(m.getMember().getId()))
                 .map(memo -> new MemoTotalListResponseDTO(
                         memo.getId(),
                         memo.getTitle(),
@@ -201,7 +192,7 @@ public class MemoService {
 
     // 메모 상세 조회
     @Transactional(readOnly = true)
-    public MemoDetailResponseDTO getMemoDetail(Long memoId, UserDetails userDetails) {
+    public MemoDetailResponseDTO getMemoDetail(Long memoId) {
         Memo memo = memoRepository.findById(memoId)
                 .orElseThrow(() -> new NotFoundException(ErrorStatus.MEMO_NOTFOUND_EXCEPTION.getMessage()));
 
@@ -211,20 +202,22 @@ public class MemoService {
         }
 
         // 유저가 로그인한 경우 차단한 사용자의 메모라면 조회 못하도록 처리
-        if (userDetails != null) {
-            Long userId = memberService.getUserIdByEmail(userDetails.getUsername());
-            final List<Long> blockedIds = memberService.getBlockedUserIds(userId);
-            if (!blockedIds.isEmpty() && blockedIds.contains(memo.getMember().getId())) {
-                throw new BadRequestException(ErrorStatus.CANT_ACCESS_BLOCK_USER_MEMO_EXCEPTION.getMessage());
-            }
+        if (viewerContext.hasBlocked(memo.getMember().getId())) {
+            throw new BadRequestException(ErrorStatus.CANT_ACCESS_BLOCK_USER_MEMO_EXCEPTION.getMessage());
         }
 
+        // 나를 차단한 사용자의 메모는 존재하지 않는 메모로 처리
+        if (viewerContext.isBlockedBy(memo.getMember().getId())) {
+            throw new NotFoundException(ErrorStatus.MEMO_NOTFOUND_EXCEPTION.getMessage());
+        }
+
+        Long userId = viewerContext.getUserId();
+
         // 프라이빗 메모인 경우 접근 권한 체크
         if (memo.isSecret()) {
-            if (userDetails == null) {
+            if (userId == null) {
                 throw new NotFoundException(ErrorStatus.MEMO_NOTFOUND_EXCEPTION.getMessage());
             }
-            Long userId = memberService.getUserIdByEmail(userDetails.getUsername());
             if (!memo.getMember().getId().equals(userId)) {
                 throw new NotFoundException(ErrorStatus.INVALID_VIEW_AUTH.getMessage());
             }
@@ -234,8 +227,7 @@ public class MemoService {
         boolean myLike = false;
         boolean myHate = false;
 
-        if (userDetails != null) {
-            Long userId = memberService.getUserIdByEmail(userDetails.getUsername());
+        if (userId != null) {
             myLike = memoLikeRepository.findByMemoIdAndMemberId(memoId, userId).isPresent();
             myHate = !myLike && memoHateRepository.findByMemoIdAndMemberId(memoId, userId).isPresent();
             myMemo = memo.getMember().getId().equals(userId);
@@ -248,7 +240,8 @@ public class MemoService {
         DateTimeFormatter formatter = DateTimeFormatter.ofPattern("yyyy-MM-dd:HH:mm:ss");
         String formattedDate = memo.getCreatedAt().format(formatter);
 
-        String nickname = memo.getMember().isDeleted() ? "(알수없음)" : memo.getMember().getNickname();
+        // 작성자 정보는 회원 프로필 캐시 사용 (작성자 엔티티 로딩 없음)
+        MemberProfile author = memberProfileCache.get(memo.getMember().getId());
 
         return MemoDetailResponseDTO.builder()
                 .id(memo.getId())
@@ -257,6 +250,8 @@ public class MemoService {
                 .content(memo.getContent())
                 .likeCnt(memo.getLikeCnt())
                 .hateCnt(memo.getHateCnt())
+                .commentCnt(memo.getCommentCnt())
+                .ratingAvg(memo.getRatingAvg())
                 .images(imageUrls)
                 .lat(memo.getLat())
                 .lng(memo.getLng())
@@ -265,8 +260,8 @@ public class MemoService {
                 .myLike(myLike)
                 .myHate(myHate)
                 .authorId(memo.getMember().getId())
-                .nickname(nickname)
-                .profileImage(memo.getMember().getImageUrl())
+                .nickname(author.displayNickname())
+                .profileImage(author.imageUrl())
                 .certified(memo.isCertified())
                 .modify(memo.isModify())
                 .build();
@@ -278,16 +273,40 @@ public class MemoService {
         List<Memo> myMemos = memoRepository.findByMemberIdAndIsDeletedFalseOrderByCreatedAtDesc(userId);
 
         return myMemos.stream()
-                .map(memo -> new MyMemoListResponseDTO(
-                        memo.getId(),
-                        memo.getTitle(),
-                        memo.getContent(),
-                        memo.getCategory(),
-                        memo.getLikeCnt(),
-                        memo.getHateCnt(),
-                        memo.getImages().stream().map(MemoImage::getImageUrl).collect(Collectors.toList()),
-                        memo.isSecret()
-                )).collect(Collectors.toList());
+                .map(MemoService::toMyMemoDTO)
+                .collect(Collectors.toList());
+    }
+
+    // 내가 작성한 메모 스트리밍 조회 (ApiResponseStreamer 의 읽기 전용 트랜잭션 안에서 열림)
+    // - 결과 집합을 열어 두지 않고 키셋 묶음 단위로 조회하며, 이미지는 묶음마다 한 번에 로딩
+    public Supplier<Stream<MyMemoListResponseDTO>> openMyMemoStream(Long userId) {
+        PageRequest chunk = PageRequest.of(0, STREAM_CHUNK_SIZE);
+        return () -> Stream.iterate(
+                        memoRepository.findMyMemoFirstPage(userId, chunk),
+                        memos -> !memos.isEmpty(),
+                        memos -> {
+                            Memo last = memos.get(memos.size() - 1);
+                            return memoRepository.findMyMemoPageAfter(userId, last.getCreatedAt(), last.getId(), chunk);
+                        })
+                .flatMap(memos -> {
+                    memoRepository.findWithImagesByIdIn(memos.stream().map(Memo::getId).toList());
+                    return memos.stream().map(MemoService::toMyMemoDTO).toList().stream();
+                });
+    }
+
+    // Memo -> MyMemoListResponseDTO 변환
+    private static MyMemoListResponseDTO toMyMemoDTO(Memo memo) {
+        return new MyMemoListResponseDTO(
+                memo.getId(),
+                memo.getTitle(),
+                memo.getContent(),
+                memo.getCategory(),
+                memo.getLikeCnt(),
+                memo.getHateCnt(),
+                memo.getCommentCnt(),
+                memo.getRatingAvg(),
+                memo.getImages().stream().map(MemoImage::getImageUrl).collect(Collectors.toList()),
+                memo.isSecret());
     }
 
     // 댓글 삭제(하드삭제)
@@ -363,8 +382,6 @@ public class MemoService {
                     .lat(memo.getLat())
                     .lng(memo.getLng())
                     .category(memoRequest.getCategory())
-                    .likeCnt(memo.getLikeCnt())
-                    .hateCnt(memo.getHateCnt())
                     .lastModifyIp(clientIp)
                     .createIp(memo.getCreateIp())
                     .images(new ArrayList<>(memo.getImages()))
@@ -412,8 +429,6 @@ public class MemoService {
                     .lat(memo.getLat())
                     .lng(memo.getLng())
                     .category(memoRequest.getCategory())
-                    .likeCnt(memo.getLikeCnt())
-                    .hateCnt(memo.getHateCnt())
                     .lastModifyIp(clientIp)
                     .createIp(memo.getCreateIp())
                     .images(new ArrayList<>(memo.getImages()))
@@ -483,8 +498,6 @@ public class MemoService {
                     .lat(memo.getLat())
                     .lng(memo.getLng())
                     .category(memoRequest.getCategory())
-                    .likeCnt(memo.getLikeCnt())
-                    .hateCnt(memo.getHateCnt())
                     .lastModifyIp(clientIp)
                     .createIp(memo.getCreateIp())
                     .secret(memoRequest.isSecret())
@@ -533,8 +546,6 @@ public class MemoService {
                     .lat(memo.getLat())
                     .lng(memo.getLng())
                     .category(memoRequest.getCategory())
-                    .likeCnt(memo.getLikeCnt())
-                    .hateCnt(memo.getHateCnt())
                     .secret(memoRequest.isSecret())
                     .lastModifyIp(clientIp)
                     .createIp(memo.getCreateIp())
@@ -572,118 +583,95 @@ public class MemoService {
         }
     }
 
-    // 좋아요 토글
-    @Transactional
-    public void toggleLike(Long memoId, Long userId) {
-        // 메모와 회원 존재 여부 체크
-        Memo memo = memoRepository.findById(memoId)
-                .orElseThrow(() -> new NotFoundException(ErrorStatus.MEMO_NOTFOUND_EXCEPTION.getMessage()));
-        Member member = memberRepository.findById(userId)
-                .orElseThrow(() -> new NotFoundException(ErrorStatus.USER_NOTFOUND_EXCEPTION.getMessage()));
+    // 좋아요 토글 (짧은 시간 안의 연속 토글은 합쳐서 이벤트 로그에 추가, 예상 최종 상태 반환)
+    public MemoReactionResponseDTO toggleLike(Long memoId, Long userId) {
+        ReactionState state = memoReactionCoalescer.toggle(memoId, userId, ReactionAction.TOGGLE_LIKE);
+        return new MemoReactionResponseDTO(memoId, state == ReactionState.LIKE, state == ReactionState.HATE);
+    }
 
-        // 좋아요 상태 확인
-        Optional<MemoLike> existingLike = memoLikeRepository.findByMemoIdAndMemberId(memoId, userId);
-
-        if (existingLike.isPresent()) {
-            // 좋아요 취소
-            memoLikeRepository.delete(existingLike.get());
-            memoRepository.decrementLikeCount(memoId);
-        } else {
-            // 싫어요 상태 확인 (상호 배타성 보장)
-            Optional<MemoHate> existingHate = memoHateRepository.findByMemoIdAndMemberId(memoId, userId);
-            if (existingHate.isPresent()) {
-                memoHateRepository.delete(existingHate.get());
-                memoRepository.decrementHateCount(memoId);
-            }
-            // 좋아요 추가
-            MemoLike memoLike = MemoLike.builder()
-                    .memo(memo)
-                    .member(member)
-                    .build();
-            memoLikeRepository.save(memoLike);
-            memoRepository.incrementLikeCount(memoId);
-        }
+    // 싫어요 토글 (짧은 시간 안의 연속 토글은 합쳐서 이벤트 로그에 추가, 예상 최종 상태 반환)
+    public MemoReactionResponseDTO toggleHate(Long memoId, Long userId) {
+        ReactionState state = memoReactionCoalescer.toggle(memoId, userId, ReactionAction.TOGGLE_HATE);
+        return new MemoReactionResponseDTO(memoId, state == ReactionState.LIKE, state == ReactionState.HATE);
     }
 
-    // 싫어요 토글
-    @Transactional
-    public void toggleHate(Long memoId, Long userId) {
-        // 메모와 회원 존재 여부 체크
-        Memo memo = memoRepository.findById(memoId)
-                .orElseThrow(() -> new NotFoundException(ErrorStatus.MEMO_NOTFOUND_EXCEPTION.getMessage()));
-        Member member = memberRepository.findById(userId)
-                .orElseThrow(() -> new NotFoundException(ErrorStatus.USER_NOTFOUND_EXCEPTION.getMessage()));
+    // 내가 댓글 작성한 메모 목록 조회 (활동 읽기 모델 기준, 마지막 댓글 최신순)
+    @Transactional(readOnly = true)
+    public List<MemoListResponseDTO> getMemosWithMyComments() {
+        return getAllActivityMemos(viewerContext.requireUserId(), MemberActivityType.COMMENTED);
+    }
 
-        // 싫어요 상태 확인
-        Optional<MemoHate> existingHate = memoHateRepository.findByMemoIdAndMemberId(memoId, userId);
-
-        if (existingHate.isPresent()) {
-            // 싫어요 취소
-            memoHateRepository.delete(existingHate.get());
-            memoRepository.decrementHateCount(memoId);
-        } else {
-            // 좋아요 상태 확인 (상호 배타성 보장)
-            Optional<MemoLike> existingLike = memoLikeRepository.findByMemoIdAndMemberId(memoId, userId);
-            if (existingLike.isPresent()) {
-                memoLikeRepository.delete(existingLike.get());
-                memoRepository.decrementLikeCount(memoId);
+    // 내가 좋아요 누른 메모 목록 조회 (활동 읽기 모델 기준, 좋아요 최신순)
+    @Transactional(readOnly = true)
+    public List<MemoListResponseDTO> getMemosILiked() {
+        return getAllActivityMemos(viewerContext.requireUserId(), MemberActivityType.LIKED);
+    }
+
+    // 커서 없이 호출하는 기존 목록 API 용 전체 조회 (읽기 모델을 키셋 페이지 단위로 끝까지 읽음)
+    private List<MemoListResponseDTO> getAllActivityMemos(Long userId, MemberActivityType activityType) {
+        PageRequest limit = PageRequest.of(0, MAX_ACTIVITY_PAGE_SIZE);
+        List<MemoListResponseDTO> memos = new ArrayList<>();
+        List<MemberActivity> activities = memberActivityRepository.findFirstPage(userId, activityType, limit);
+        while (!activities.isEmpty()) {
+            memos.addAll(toActivityMemoList(activities));
+            if (activities.size() < MAX_ACTIVITY_PAGE_SIZE) {
+                break;
             }
-            // 싫어요 추가
-            MemoHate memoHate = MemoHate.builder()
-                    .memo(memo)
-                    .member(member)
-                    .build();
-            memoHateRepository.save(memoHate);
-            memoRepository.incrementHateCount(memoId);
+            MemberActivity last = activities.get(activities.size() - 1);
+            activities = memberActivityRepository.findPageAfter(userId, activityType,
+                    last.getLastActivityAt(), last.getMemoId(), limit);
         }
+        return memos;
     }
 
-    // 내가 댓글 작성한 메모 목록 조회
+    // 내 활동(댓글 작성/좋아요) 메모 페이지 조회 (마지막 활동 최신순 키셋 페이지)
     @Transactional(readOnly = true)
-    public List<MemoListResponseDTO> getMemosWithMyComments(UserDetails userDetails) {
-        Long userId = memberRepository.findByEmail(userDetails.getUsername())
-                .orElseThrow(() -> new NotFoundException(ErrorStatus.USER_NOTFOUND_EXCEPTION.getMessage()))
-                .getId();
-
-        // 차단한 사용자 목록
-        List<Long> blockedIds = memberService.getBlockedUserIds(userId);
-        // 내가 댓글 단 메모 목록
-        List<Memo> memos = commentRepository.findDistinctMemoByMemberId(userId);
-
-        // 메모 필터링
-        List<Memo> filtered = memos.stream()
-                .filter(memo -> blockedIds.isEmpty() || !blockedIds.contains(memo.getMember().getId()))
-                .toList();
-
-        return filtered.stream()
-                .map(this::convertToDTO)
-                .collect(Collectors.toList());
+    public CursorPageResponseDTO<MemoListResponseDTO> getActivityMemoPage(MemberActivityType activityType, String cursor, int size) {
+        Long userId = viewerContext.requireUserId();
+        int pageSize = Math.max(1, Math.min(size, MAX_ACTIVITY_PAGE_SIZE));
+
+        // 다음 페이지 존재 여부 확인을 위해 1건 더 조회
+        KeysetCursor after = KeysetCursor.decode(cursor);
+        PageRequest limit = PageRequest.of(0, pageSize + 1);
+        List<MemberActivity> activities = after == null
+                ? memberActivityRepository.findFirstPage(userId, activityType, limit)
+                : memberActivityRepository.findPageAfter(userId, activityType, after.time(), after.id(), limit);
+
+        boolean hasNext = activities.size() > pageSize;
+        if (hasNext) {
+            activities = activities.subList(0, pageSize);
+        }
+
+        String nextCursor = null;
+        if (hasNext) {
+            MemberActivity last = activities.get(activities.size() - 1);
+            nextCursor = new KeysetCursor(last.getLastActivityAt(), last.getMemoId()).encode();
+        }
+
+        // 삭제된 메모와 차단한 사용자의 메모는 제외되므로 페이지 크기보다 적게 반환될 수 있음
+        return new CursorPageResponseDTO<>(toActivityMemoList(activities), nextCursor, hasNext);
     }
 
-    // 내가 좋아요 누른 메모 목록 조회
-    @Transactional(readOnly = true)
-    public List<MemoListResponseDTO> getMemosILiked(UserDetails userDetails) {
-        Long userId = memberRepository.findByEmail(userDetails.getUsername())
-                .orElseThrow(() -> new NotFoundException(ErrorStatus.USER_NOTFOUND_EXCEPTION.getMessage()))
-                .getId();
-
-        // 차단한 사용자 목록
-        List<Long> blockedIds = memberService.getBlockedUserIds(userId);
-        // 좋아요한 메모 목록
-        List<Memo> likedMemos = memoLikeRepository.findMemosByMemberId(userId);
-
-        // 메모 필터링
-        List<Memo> filtered = likedMemos.stream()
-                .filter(memo -> blockedIds.isEmpty() || !blockedIds.contains(memo.getMember().getId()))
-                .toList();
-
-        return filtered.stream()
-                .map(this::convertToDTO)
+    // 활동 순서를 유지하며 메모 목록으로 변환 (메모와 이미지는 IN 조회 1회)
+    private List<MemoListResponseDTO> toActivityMemoList(List<MemberActivity> activities) {
+        if (activities.isEmpty()) {
+            return Collections.emptyList();
+        }
+
+        List<Long> memoIds = activities.stream().map(MemberActivity::getMemoId).toList();
+        Map<Long, Memo> memos = memoRepository.findWithImagesByIdIn(memoIds).stream()
+                .collect(Collectors.toMap(Memo::getId, Function.identity()));
+
+        return activities.stream()
+                .map(activity -> memos.get(activity.getMemoId()))
+                .filter(memo -> memo != null && !memo.isDeleted())
+                .filter(memo -> !viewerContext.isHidden(memo.getMember().getId()))
+                .map(MemoService::convertToDTO)
                 .collect(Collectors.toList());
     }
 
     // Memo -> MemoListResponseDTO 변환
-    private MemoListResponseDTO convertToDTO(Memo memo) {
+    static MemoListResponseDTO convertToDTO(Memo memo) {
         List<String> imageUrls = memo.getImages().stream()
                 .map(MemoImage::getImageUrl)
                 .collect(Collectors.toList());
@@ -695,6 +683,8 @@ public class MemoService {
                 .category(memo.getCategory())
                 .likeCnt(memo.getLikeCnt())
                 .hateCnt(memo.getHateCnt())
+                .commentCnt(memo.getCommentCnt())
+                .ratingAvg(memo.getRatingAvg())
                 .images(imageUrls)
                 .build();
     }
@@ -12,8 +12,6 @@ import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.ResponseEntity;
-import org.springframework.security.core.annotation.AuthenticationPrincipal;
-import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
@@ -48,14 +46,13 @@ public class ReportController {
     })
     @PostMapping("/memo/report")
     public ResponseEntity<ApiResponse<Void>> reportMemo(
-            @RequestBody MemoReportRequestDTO memoReportRequestDTO,
-            @AuthenticationPrincipal UserDetails userDetails
+            @RequestBody MemoReportRequestDTO memoReportRequestDTO
     ) {
         if (memoReportRequestDTO.getMemoId() == null || memoReportRequestDTO.getReportReason() == null) {
             throw new BadRequestException(ErrorStatus.VALIDATION_CONTENT_MISSING_EXCEPTION.getMessage());
         }
 
-        reportService.reportMemo(memoReportRequestDTO, userDetails);
+        reportService.reportMemo(memoReportRequestDTO);
         return ApiResponse.success_only(SuccessStatus.REPORT_MEMO_SUCCESS);
     }
 
@@ -80,14 +77,13 @@ public class ReportController {
     })
     @PostMapping("/comment/report")
     public ResponseEntity<ApiResponse<Void>> reportComment(
-            @RequestBody CommentReportRequestDTO commentReportRequestDTO,
-            @AuthenticationPrincipal UserDetails userDetails
+            @RequestBody CommentReportRequestDTO commentReportRequestDTO
     ) {
         if (commentReportRequestDTO.getCommentId() == null || commentReportRequestDTO.getReportReason() == null) {
             throw new BadRequestException(ErrorStatus.VALIDATION_CONTENT_MISSING_EXCEPTION.getMessage());
         }
 
-        reportService.reportComment(commentReportRequestDTO, userDetails);
+        reportService.reportComment(commentReportRequestDTO);
         return ApiResponse.success_only(SuccessStatus.REPORT_COMMENT_SUCCESS);
     }
 }
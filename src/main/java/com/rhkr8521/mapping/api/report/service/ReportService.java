@@ -4,7 +4,6 @@ import com.rhkr8521.mapping.api.comment.entity.Comment;
 import com.rhkr8521.mapping.api.comment.repository.CommentRepository;
 import com.rhkr8521.mapping.api.member.entity.Member;
 import com.rhkr8521.mapping.api.member.repository.MemberRepository;
-import com.rhkr8521.mapping.api.member.service.MemberService;
 import com.rhkr8521.mapping.api.memo.entity.Memo;
 import com.rhkr8521.mapping.api.memo.repository.MemoRepository;
 import com.rhkr8521.mapping.api.report.dto.CommentReportRequestDTO;
@@ -13,12 +12,12 @@ import com.rhkr8521.mapping.api.report.entity.CommentReport;
 import com.rhkr8521.mapping.api.report.entity.MemoReport;
 import com.rhkr8521.mapping.api.report.repository.CommentReportRepository;
 import com.rhkr8521.mapping.api.report.repository.MemoReportRepository;
+import com.rhkr8521.mapping.common.context.ViewerContext;
 import com.rhkr8521.mapping.common.exception.BadRequestException;
 import com.rhkr8521.mapping.common.exception.NotFoundException;
 import com.rhkr8521.mapping.common.response.ErrorStatus;
 import com.rhkr8521.mapping.slack.SlackNotificationService;
 import lombok.RequiredArgsConstructor;
-import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -31,12 +30,12 @@ public class ReportService {
     private final MemoReportRepository memoReportRepository;
     private final CommentReportRepository commentReportRepository;
     private final CommentRepository commentRepository;
-    private final MemberService memberService;
+    private final ViewerContext viewerContext;
     private final SlackNotificationService slackNotificationService;
 
     // 메모 신고 기능
     @Transactional
-    public void reportMemo(MemoReportRequestDTO reportRequest, UserDetails userDetails) {
+    public void reportMemo(MemoReportRequestDTO reportRequest) {
         if(reportRequest.getMemoId() == null || reportRequest.getReportReason() == null) {
             throw new BadRequestException(ErrorStatus.VALIDATION_CONTENT_MISSING_EXCEPTION.getMessage());
         }
@@ -45,10 +44,8 @@ public class ReportService {
         Memo memo = memoRepository.findById(reportRequest.getMemoId())
                 .orElseThrow(() -> new NotFoundException(ErrorStatus.MEMO_NOTFOUND_EXCEPTION.getMessage()));
 
-        // 신고하는 회원 조회
-        Long userId = memberService.getUserIdByEmail(userDetails.getUsername());
-        Member member = memberRepository.findById(userId)
-                .orElseThrow(() -> new NotFoundException(ErrorStatus.USER_NOTFOUND_EXCEPTION.getMessage()));
+        // 신고하는 회원 (요청 인증 시 존재 확인됨)
+        Member member = memberRepository.getReferenceById(viewerContext.requireUserId());
 
         // 이미 신고한 내역이 있는지 체크
         if (memoReportRepository.existsByMemoAndMember(memo, member)) {
@@ -67,7 +64,7 @@ public class ReportService {
 
     // 댓글 신고 기능
     @Transactional
-    public void reportComment(CommentReportRequestDTO commentReportRequestDTO, UserDetails userDetails) {
+    public void reportComment(CommentReportRequestDTO commentReportRequestDTO) {
         if(commentReportRequestDTO.getCommentId() == null || commentReportRequestDTO.getReportReason() == null) {
             throw new BadRequestException(ErrorStatus.VALIDATION_CONTENT_MISSING_EXCEPTION.getMessage());
         }
@@ -76,10 +73,8 @@ public class ReportService {
         Comment comment = commentRepository.findById(commentReportRequestDTO.getCommentId())
                 .orElseThrow(() -> new NotFoundException(ErrorStatus.COMMENT_NOTFOUND_EXCEPTION.getMessage()));
 
-        // 신고하는 회원 조회
-        Long userId = memberService.getUserIdByEmail(userDetails.getUsername());
-        Member member = memberRepository.findById(userId)
-                .orElseThrow(() -> new NotFoundException(ErrorStatus.USER_NOTFOUND_EXCEPTION.getMessage()));
+        // 신고하는 회원 (요청 인증 시 존재 확인됨)
+        Member member = memberRepository.getReferenceById(viewerContext.requireUserId());
 
         // 이미 신고한 내역이 있는지 체크
         if (commentReportRepository.existsByCommentAndMember(comment, member)) {
@@ -4,8 +4,8 @@ import com.rhkr8521.mapping.api.member.entity.Member;
 import com.rhkr8521.mapping.api.watchdog.dto.ProfanityResponseDTO;
 import com.rhkr8521.mapping.api.watchdog.entity.ProfanityDetect;
 import com.rhkr8521.mapping.api.watchdog.repository.ProfanityDetectRepository;
+import com.rhkr8521.mapping.common.config.http.OutboundRestTemplateFactory;
 import org.springframework.beans.factory.annotation.Value;
-import org.springframework.boot.web.client.RestTemplateBuilder;
 import org.springframework.http.*;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -24,9 +24,9 @@ public class ProfanityDetectionService {
 
     private final RestTemplate restTemplate;
 
-    // 생성자에서 RestTemplate과 ProfanityDetectRepository 모두 주입받음
-    public ProfanityDetectionService(RestTemplateBuilder builder, ProfanityDetectRepository profanityDetectRepository) {
-        this.restTemplate = builder.build();
+    // 공용 연결 풀을 쓰는 RestTemplate 과 ProfanityDetectRepository 주입
+    public ProfanityDetectionService(OutboundRestTemplateFactory restTemplateFactory, ProfanityDetectRepository profanityDetectRepository) {
+        this.restTemplate = restTemplateFactory.create("profanity");
         this.profanityDetectRepository = profanityDetectRepository;
     }
 
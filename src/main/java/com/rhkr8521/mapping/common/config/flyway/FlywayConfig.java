@@ -0,0 +1,25 @@
+package com.rhkr8521.mapping.common.config.flyway;
+
+import org.springframework.boot.autoconfigure.flyway.FlywayConfigurationCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * 스키마 마이그레이션 설정
+ * - 테이블/컬럼/인덱스 정의는 엔티티 어노테이션이 기준이고 기존처럼 JPA(ddl-auto) 가 생성
+ * - ddl-auto 가 할 수 없는 작업(기존 데이터 정리 후 제약 추가, 컬럼 삭제, 데이터 이전)만 마이그레이션으로 관리
+ * - 마이그레이션은 JPA 초기화 전에 실행되므로, 아직 없을 수 있는 테이블은 엔티티와 같은 정의로 먼저 생성하거나 존재 여부를 확인
+ * - MariaDB/MySQL 공통 문법만 사용 (IF NOT EXISTS 가 필요한 경우 information_schema 로 확인)
+ * - 마이그레이션은 db.migration 패키지의 Java 마이그레이션 빈으로 등록
+ * - 이력 테이블이 없는 기존 DB 는 버전 0 으로 기준점을 잡은 뒤 V1 부터 적용
+ */
+@Configuration
+public class FlywayConfig {
+
+    @Bean
+    public FlywayConfigurationCustomizer flywayBaselineCustomizer() {
+        return configuration -> configuration
+                .baselineOnMigrate(true)
+                .baselineVersion("0");
+    }
+}
@@ -0,0 +1,86 @@
+package com.rhkr8521.mapping.common.config.http;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.httpcomponents.hc5.PoolingHttpClientConnectionManagerMetricsBinder;
+import org.apache.hc.client5.http.config.ConnectionConfig;
+import org.apache.hc.client5.http.config.RequestConfig;
+import org.apache.hc.client5.http.impl.DefaultConnectionKeepAliveStrategy;
+import org.apache.hc.client5.http.impl.classic.CloseableHttpClient;
+import org.apache.hc.client5.http.impl.classic.HttpClients;
+import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManager;
+import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManagerBuilder;
+import org.apache.hc.core5.util.TimeValue;
+import org.apache.hc.core5.util.Timeout;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * 외부 연동(소셜 로그인, 슬랙, 비속어 검사) 공용 HTTP 클라이언트 설정
+ * - 연결 풀과 keep-alive 로 요청마다 TCP/TLS 연결을 새로 맺지 않도록 함
+ */
+@Configuration
+public class OutboundHttpClientConfig {
+
+    @Value("${outbound.http.max-total:200}")
+    private int maxTotal;
+
+    // 목적지(호스트)별 최대 연결 수
+    @Value("${outbound.http.max-per-route:50}")
+    private int maxPerRoute;
+
+    @Value("${outbound.http.connect-timeout-ms:2000}")
+    private long connectTimeoutMillis;
+
+    @Value("${outbound.http.read-timeout-ms:5000}")
+    private long readTimeoutMillis;
+
+    // 풀에서 연결을 얻기까지 기다리는 최대 시간
+    @Value("${outbound.http.connection-request-timeout-ms:1000}")
+    private long connectionRequestTimeoutMillis;
+
+    // 서버가 keep-alive 시간을 알려주지 않거나 더 길게 주어도 이 시간까지만 유휴 연결 재사용
+    @Value("${outbound.http.keep-alive-ms:30000}")
+    private long keepAliveMillis;
+
+    @Value("${outbound.http.time-to-live-ms:300000}")
+    private long timeToLiveMillis;
+
+    @Bean
+    public PoolingHttpClientConnectionManager outboundConnectionManager(MeterRegistry meterRegistry) {
+        PoolingHttpClientConnectionManager connectionManager = PoolingHttpClientConnectionManagerBuilder.create()
+                .setMaxConnTotal(maxTotal)
+                .setMaxConnPerRoute(maxPerRoute)
+                .setDefaultConnectionConfig(ConnectionConfig.custom()
+                        .setConnectTimeout(Timeout.ofMilliseconds(connectTimeoutMillis))
+                        .setSocketTimeout(Timeout.ofMilliseconds(readTimeoutMillis))
+                        .setTimeToLive(TimeValue.ofMilliseconds(timeToLiveMillis))
+                        // 오래 쉬던 연결은 재사용 전에 끊겼는지 확인
+                        .setValidateAfterInactivity(TimeValue.ofSeconds(10))
+                        .build())
+                .build();
+
+        // 풀 사용량 지표 (httpcomponents.httpclient.pool.*)
+        new PoolingHttpClientConnectionManagerMetricsBinder(connectionManager, "outbound").bindTo(meterRegistry);
+        return connectionManager;
+    }
+
+    @Bean
+    public CloseableHttpClient outboundHttpClient(PoolingHttpClientConnectionManager outboundConnectionManager) {
+        TimeValue maxKeepAlive = TimeValue.ofMilliseconds(keepAliveMillis);
+
+        return HttpClients.custom()
+                .setConnectionManager(outboundConnectionManager)
+                .setDefaultRequestConfig(RequestConfig.custom()
+                        .setConnectionRequestTimeout(Timeout.ofMilliseconds(connectionRequestTimeoutMillis))
+                        .setResponseTimeout(Timeout.ofMilliseconds(readTimeoutMillis))
+                        .build())
+                .setKeepAliveStrategy((response, context) -> {
+                    TimeValue keepAlive = DefaultConnectionKeepAliveStrategy.INSTANCE.getKeepAliveDuration(response, context);
+                    return keepAlive.compareTo(maxKeepAlive) > 0 ? maxKeepAlive : keepAlive;
+                })
+                .evictExpiredConnections()
+                .evictIdleConnections(maxKeepAlive)
+                .build();
+    }
+}
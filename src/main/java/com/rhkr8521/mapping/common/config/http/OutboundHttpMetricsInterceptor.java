@@ -0,0 +1,43 @@
+package com.rhkr8521.mapping.common.config.http;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.http.HttpRequest;
+import org.springframework.http.client.ClientHttpRequestExecution;
+import org.springframework.http.client.ClientHttpRequestInterceptor;
+import org.springframework.http.client.ClientHttpResponse;
+
+import java.io.IOException;
+
+/**
+ * 연동 대상(integration)별 외부 호출 시간과 결과를 outbound.http.requests 지표로 기록
+ */
+public class OutboundHttpMetricsInterceptor implements ClientHttpRequestInterceptor {
+
+    private static final String METRIC_NAME = "outbound.http.requests";
+
+    private final MeterRegistry meterRegistry;
+    private final String integration;
+
+    public OutboundHttpMetricsInterceptor(MeterRegistry meterRegistry, String integration) {
+        this.meterRegistry = meterRegistry;
+        this.integration = integration;
+    }
+
+    @Override
+    public ClientHttpResponse intercept(HttpRequest request, byte[] body, ClientHttpRequestExecution execution) throws IOException {
+        Timer.Sample sample = Timer.start(meterRegistry);
+        String status = "IO_ERROR";
+        try {
+            ClientHttpResponse response = execution.execute(request, body);
+            status = String.valueOf(response.getStatusCode().value());
+            return response;
+        } finally {
+            sample.stop(Timer.builder(METRIC_NAME)
+                    .tag("integration", integration)
+                    .tag("method", request.getMethod().name())
+                    .tag("status", status)
+                    .register(meterRegistry));
+        }
+    }
+}
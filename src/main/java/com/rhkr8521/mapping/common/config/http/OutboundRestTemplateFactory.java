@@ -0,0 +1,30 @@
+package com.rhkr8521.mapping.common.config.http;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.RequiredArgsConstructor;
+import org.apache.hc.client5.http.impl.classic.CloseableHttpClient;
+import org.springframework.boot.web.client.RestTemplateBuilder;
+import org.springframework.http.client.HttpComponentsClientHttpRequestFactory;
+import org.springframework.stereotype.Component;
+import org.springframework.web.client.RestTemplate;
+
+/**
+ * 공용 연결 풀을 쓰는 RestTemplate 생성기
+ * - 서비스마다 한 번만 만들어 재사용 (요청마다 생성하지 않음)
+ */
+@Component
+@RequiredArgsConstructor
+public class OutboundRestTemplateFactory {
+
+    private final RestTemplateBuilder restTemplateBuilder;
+    private final CloseableHttpClient outboundHttpClient;
+    private final MeterRegistry meterRegistry;
+
+    // integration: 지표 태그로 쓰는 연동 이름 (예: apple, kakao, slack)
+    public RestTemplate create(String integration) {
+        return restTemplateBuilder
+                .requestFactory(() -> new HttpComponentsClientHttpRequestFactory(outboundHttpClient))
+                .additionalInterceptors(new OutboundHttpMetricsInterceptor(meterRegistry, integration))
+                .build();
+    }
+}
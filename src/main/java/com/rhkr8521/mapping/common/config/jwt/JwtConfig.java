@@ -1,6 +1,7 @@
 package com.rhkr8521.mapping.common.config.jwt;
 
 import com.rhkr8521.mapping.api.member.jwt.filter.JwtAuthenticationProcessingFilter;
+import com.rhkr8521.mapping.api.member.jwt.service.AccessTokenRevocationService;
 import com.rhkr8521.mapping.api.member.jwt.service.JwtService;
 import com.rhkr8521.mapping.api.member.repository.MemberRepository;
 import lombok.RequiredArgsConstructor;
@@ -13,9 +14,10 @@ public class JwtConfig {
 
     private final JwtService jwtService;
     private final MemberRepository memberRepository;
+    private final AccessTokenRevocationService accessTokenRevocationService;
 
     @Bean
     public JwtAuthenticationProcessingFilter jwtAuthenticationProcessingFilter() {
-        return new JwtAuthenticationProcessingFilter(jwtService, memberRepository);
+        return new JwtAuthenticationProcessingFilter(jwtService, memberRepository, accessTokenRevocationService);
     }
 }
\ No newline at end of file
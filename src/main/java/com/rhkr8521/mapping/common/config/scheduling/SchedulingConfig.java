@@ -0,0 +1,40 @@
+package com.rhkr8521.mapping.common.config.scheduling;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.SchedulingConfigurer;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskScheduler;
+import org.springframework.scheduling.config.ScheduledTaskRegistrar;
+
+/**
+ * 스케줄러 스레드 풀 설정
+ * - 기본 스케줄러는 스레드가 하나라 외부 API 호출(소셜 연결 해제)이나 긴 배치(활동 목록 백필, 정리 작업)가
+ *   도는 동안 반응 반영, 카운터 집계, 토큰 폐기 목록 갱신 같은 짧은 주기 작업이 모두 밀림
+ * - 긴 작업이 동시에 돌아도 짧은 주기 작업이 쓸 스레드가 남도록 풀 크기 지정
+ */
+@Configuration
+public class SchedulingConfig implements SchedulingConfigurer {
+
+    @Value("${scheduling.pool-size:8}")
+    private int poolSize;
+
+    // 종료 시 실행 중인 작업을 기다리는 최대 시간
+    @Value("${scheduling.await-termination-seconds:30}")
+    private int awaitTerminationSeconds;
+
+    @Bean
+    public ThreadPoolTaskScheduler taskScheduler() {
+        ThreadPoolTaskScheduler scheduler = new ThreadPoolTaskScheduler();
+        scheduler.setPoolSize(poolSize);
+        scheduler.setThreadNamePrefix("scheduler-");
+        scheduler.setWaitForTasksToCompleteOnShutdown(true);
+        scheduler.setAwaitTerminationSeconds(awaitTerminationSeconds);
+        return scheduler;
+    }
+
+    @Override
+    public void configureTasks(ScheduledTaskRegistrar taskRegistrar) {
+        taskRegistrar.setTaskScheduler(taskScheduler());
+    }
+}
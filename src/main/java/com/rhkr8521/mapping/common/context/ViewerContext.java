@@ -0,0 +1,111 @@
+package com.rhkr8521.mapping.common.context;
+
+import com.rhkr8521.mapping.api.member.cache.BlockSetCache;
+import com.rhkr8521.mapping.api.member.jwt.principal.MemberPrincipal;
+import com.rhkr8521.mapping.common.exception.UnauthorizedException;
+import com.rhkr8521.mapping.common.response.ErrorStatus;
+import com.rhkr8521.mapping.common.util.LongHashSet;
+import jakarta.servlet.http.HttpServletRequest;
+import lombok.RequiredArgsConstructor;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.stereotype.Component;
+import org.springframework.web.context.annotation.RequestScope;
+
+/**
+ * 요청을 보낸 사용자(조회자) 정보
+ * - 요청당 한 번만 사용자 ID 를 조회하고 이후에는 재사용 (차단 목록은 BlockSetCache 사용)
+ * - 사용자 ID 는 JWT 인증 필터가 요청 속성에 넣어 둔 값을 우선 사용
+ */
+@Component
+@RequestScope
+@RequiredArgsConstructor
+public class ViewerContext {
+
+    public static final String USER_ID_ATTRIBUTE = ViewerContext.class.getName() + ".USER_ID";
+
+    private final HttpServletRequest request;
+    private final BlockSetCache blockSetCache;
+
+    private boolean userIdResolved;
+    private Long userId;
+    private LongHashSet blockedIds;
+    private LongHashSet blockerIds;
+
+    // 조회자 ID (비로그인 요청이면 null)
+    public Long getUserId() {
+        if (!userIdResolved) {
+            userId = resolveUserId();
+            userIdResolved = true;
+        }
+        return userId;
+    }
+
+    // 로그인이 필요한 요청의 조회자 ID
+    public Long requireUserId() {
+        Long id = getUserId();
+        if (id == null) {
+            throw new UnauthorizedException(ErrorStatus.USER_UNAUTHORIZED.getMessage());
+        }
+        return id;
+    }
+
+    public boolean isAuthenticated() {
+        return getUserId() != null;
+    }
+
+    // 조회자 본인인지 여부
+    public boolean isViewer(Long memberId) {
+        Long id = getUserId();
+        return id != null && id.equals(memberId);
+    }
+
+    // 조회자가 차단한 사용자인지 여부
+    public boolean hasBlocked(Long memberId) {
+        return getBlockedIds().contains(memberId);
+    }
+
+    // 조회자를 차단한 사용자인지 여부
+    public boolean isBlockedBy(Long memberId) {
+        return getBlockerIds().contains(memberId);
+    }
+
+    // 서로 보이지 않아야 하는 사용자인지 여부 (어느 한쪽이라도 차단한 경우)
+    public boolean isHidden(Long memberId) {
+        return hasBlocked(memberId) || isBlockedBy(memberId);
+    }
+
+    // 조회자가 차단한 사용자 ID 목록 (비로그인 요청이면 빈 셋)
+    public LongHashSet getBlockedIds() {
+        if (blockedIds == null) {
+            Long id = getUserId();
+            blockedIds = id == null
+                    ? new LongHashSet()
+                    : blockSetCache.getBlockedIds(id);
+        }
+        return blockedIds;
+    }
+
+    // 조회자를 차단한 사용자 ID 목록 (비로그인 요청이면 빈 셋)
+    public LongHashSet getBlockerIds() {
+        if (blockerIds == null) {
+            Long id = getUserId();
+            blockerIds = id == null
+                    ? new LongHashSet()
+                    : blockSetCache.getBlockerIds(id);
+        }
+        return blockerIds;
+    }
+
+    private Long resolveUserId() {
+        if (request.getAttribute(USER_ID_ATTRIBUTE) instanceof Long id) {
+            return id;
+        }
+
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        if (authentication != null && authentication.getPrincipal() instanceof MemberPrincipal principal) {
+            return principal.getId();
+        }
+        return null;
+    }
+}
@@ -0,0 +1,85 @@
+package com.rhkr8521.mapping.common.response;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.rhkr8521.mapping.common.config.datasource.DataSourceContextHolder;
+import com.rhkr8521.mapping.common.config.datasource.DataSourceType;
+import jakarta.persistence.EntityManager;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.Iterator;
+import java.util.function.Supplier;
+import java.util.stream.Stream;
+
+/**
+ * 목록 응답을 ApiResponse 형태({status, success, message, data: [...]})를 유지한 채 한 건씩 직렬화하는 스트리밍 응답
+ * - 응답 본문은 요청 스레드가 아닌 비동기 스레드에서 작성되므로, 조회자 정보 등 요청 범위 값은 source 를 만들 때 미리 확정해야 함
+ * - 본문 작성을 시작한 이후의 오류는 응답 형태로 전달할 수 없으므로 검증은 source 생성 시점에 끝내야 함
+ */
+@Component
+public class ApiResponseStreamer {
+
+    // 영속성 컨텍스트를 비우고 출력 버퍼를 내보내는 주기
+    private static final int CLEAR_INTERVAL = 100;
+
+    private final ObjectMapper objectMapper;
+    private final EntityManager entityManager;
+    private final TransactionTemplate readOnlyTransaction;
+
+    public ApiResponseStreamer(ObjectMapper objectMapper, EntityManager entityManager, PlatformTransactionManager transactionManager) {
+        this.objectMapper = objectMapper;
+        this.entityManager = entityManager;
+        this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction.setReadOnly(true);
+    }
+
+    public <T> ResponseEntity<StreamingResponseBody> stream(SuccessStatus status, Supplier<Stream<T>> source) {
+        StreamingResponseBody body = outputStream -> {
+            // @Transactional 을 거치지 않으므로 읽기 전용 DB(SLAVE) 를 직접 지정
+            DataSourceContextHolder.set(DataSourceType.SLAVE);
+            try {
+                readOnlyTransaction.executeWithoutResult(tx -> {
+                    try (Stream<T> items = source.get();
+                         JsonGenerator generator = objectMapper.getFactory().createGenerator(outputStream)) {
+                        generator.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+
+                        generator.writeStartObject();
+                        generator.writeNumberField("status", status.getStatusCode());
+                        generator.writeBooleanField("success", true);
+                        generator.writeStringField("message", status.getMessage());
+                        generator.writeArrayFieldStart("data");
+
+                        int written = 0;
+                        Iterator<T> iterator = items.iterator();
+                        while (iterator.hasNext()) {
+                            generator.writeObject(iterator.next());
+                            if (++written % CLEAR_INTERVAL == 0) {
+                                // 이미 직렬화한 엔티티가 쌓이지 않도록 정리
+                                entityManager.clear();
+                                generator.flush();
+                            }
+                        }
+
+                        generator.writeEndArray();
+                        generator.writeEndObject();
+                    } catch (IOException e) {
+                        throw new UncheckedIOException(e);
+                    }
+                });
+            } finally {
+                DataSourceContextHolder.clear();
+            }
+        };
+
+        return ResponseEntity.status(status.getHttpStatus())
+                .contentType(MediaType.APPLICATION_JSON)
+                .body(body);
+    }
+}
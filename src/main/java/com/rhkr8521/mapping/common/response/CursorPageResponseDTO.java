@@ -0,0 +1,20 @@
+package com.rhkr8521.mapping.common.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * 커서 기반 페이지 응답
+ * - nextCursor 를 다음 요청의 cursor 로 그대로 전달 (마지막 페이지면 null)
+ */
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+public class CursorPageResponseDTO<T> {
+    private List<T> content;
+    private String nextCursor;
+    private boolean hasNext;
+}
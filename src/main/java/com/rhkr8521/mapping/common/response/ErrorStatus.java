@@ -33,6 +33,9 @@ public enum ErrorStatus {
     ALREADY_BLOCK_USER_EXCEPTION(HttpStatus.BAD_REQUEST,"이미 차단한 사용자입니다."),
     NOT_BLOCK_USER_EXCEPTION(HttpStatus.BAD_REQUEST,"차단한 사용자가 아닙니다."),
     MISSING_OAUTH2_AUTHORIZATION_CODE_EXCEPTION(HttpStatus.BAD_REQUEST,"OAuth2 Authorization Code가 입력되지 않았습니다."),
+    INVALID_CURSOR_EXCEPTION(HttpStatus.BAD_REQUEST,"잘못된 페이지 커서입니다."),
+    MISSING_USER_IDS(HttpStatus.BAD_REQUEST,"조회할 사용자 ID가 입력되지 않았습니다."),
+    TOO_MANY_USER_IDS(HttpStatus.BAD_REQUEST,"한 번에 조회할 수 있는 사용자 수를 초과했습니다."),
 
     /**
      * 401 UNAUTHORIZED
@@ -40,6 +43,7 @@ public enum ErrorStatus {
     USER_UNAUTHORIZED(HttpStatus.UNAUTHORIZED,"인증되지 않은 사용자입니다."),
     INVALID_KAKAO_ACCESSTOKEN_EXCEPTION(HttpStatus.UNAUTHORIZED, "유효하지 않은 카카오 엑세스토큰입니다."),
     INVALID_REFRESHTOKEN_EXCEPTION(HttpStatus.UNAUTHORIZED, "유효하지 않은 리프레시토큰입니다."),
+    INVALID_OAUTH_ID_TOKEN_EXCEPTION(HttpStatus.UNAUTHORIZED, "유효하지 않은 소셜 로그인 ID 토큰입니다."),
     INVALID_MODIFY_AUTH(HttpStatus.UNAUTHORIZED,"수정 권한이 없습니다."),
     INVALID_DELETE_AUTH(HttpStatus.UNAUTHORIZED,"삭제 권한이 없습니다."),
     INVALID_VIEW_AUTH(HttpStatus.UNAUTHORIZED,"조회 권한이 없습니다."),
@@ -22,7 +22,9 @@ public enum SuccessStatus {
     UPDATE_NICKNAME_SUCCESS(HttpStatus.OK, "닉네임 변경 성공"),
     CHECK_NICKNAME_SUCCESS(HttpStatus.OK, "닉네임 사용 가능"),
     DELETE_MEMBER_SUCCESS(HttpStatus.OK, "회원 탈퇴 성공"),
+    LOGOUT_SUCCESS(HttpStatus.OK, "로그아웃 성공"),
     GET_USERINFO_SUCCESS(HttpStatus.OK,"사용자 정보 조회 성공"),
+    GET_USER_PROFILES_SUCCESS(HttpStatus.OK,"사용자 프로필 목록 조회 성공"),
 
     SEND_TOTAL_MEMO_SUCCESS(HttpStatus.OK, "전체 메모 발송 성공"),
     SEND_MEMO_DETAIL_SUCCESS(HttpStatus.OK, "메모 상세 조회 성공"),
@@ -34,6 +36,7 @@ public enum SuccessStatus {
 
     SEND_COMMENT_IDS_SUCCESS(HttpStatus.OK,"댓글 ID 목록 조회 성공"),
     SEND_COMMENT_DETAIL_SUCCESS(HttpStatus.OK,"댓글 상세 조회 성공"),
+    SEND_COMMENT_PAGE_SUCCESS(HttpStatus.OK,"댓글 목록 조회 성공"),
     MODIFY_COMMENT_SUCCESS(HttpStatus.OK,"댓글 수정 성공"),
     DELETE_COMMENT_SUCCESS(HttpStatus.OK,"댓글 삭제 상공"),
 
@@ -0,0 +1,43 @@
+package com.rhkr8521.mapping.common.util;
+
+import com.rhkr8521.mapping.common.exception.BadRequestException;
+import com.rhkr8521.mapping.common.response.ErrorStatus;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+
+/**
+ * (시각 DESC, id DESC) 키셋 페이지네이션 커서
+ * - 클라이언트에는 내부 구조를 알 수 없는 Base64URL 문자열로 전달
+ */
+public record KeysetCursor(LocalDateTime time, Long id) {
+
+    private static final String DELIMITER = "|";
+
+    public String encode() {
+        String raw = time + DELIMITER + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    // 커서 문자열 해석 (비어 있으면 첫 페이지로 보고 null 반환)
+    public static KeysetCursor decode(String cursor) {
+        if (cursor == null || cursor.isBlank()) {
+            return null;
+        }
+
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            int delimiterIndex = raw.lastIndexOf(DELIMITER);
+            if (delimiterIndex < 0) {
+                throw new BadRequestException(ErrorStatus.INVALID_CURSOR_EXCEPTION.getMessage());
+            }
+            return new KeysetCursor(
+                    LocalDateTime.parse(raw.substring(0, delimiterIndex)),
+                    Long.parseLong(raw.substring(delimiterIndex + 1)));
+        } catch (IllegalArgumentException | DateTimeParseException e) {
+            throw new BadRequestException(ErrorStatus.INVALID_CURSOR_EXCEPTION.getMessage());
+        }
+    }
+}
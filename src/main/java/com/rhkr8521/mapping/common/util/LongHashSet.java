@@ -0,0 +1,114 @@
+package com.rhkr8521.mapping.common.util;
+
+import java.util.Collection;
+
+/**
+ * long 전용 해시 셋 (오픈 어드레싱, 선형 탐사)
+ * - Long 박싱 없이 contains 를 수행하기 위한 용도로, 추가만 지원
+ */
+public final class LongHashSet {
+
+    private static final long EMPTY = 0L;
+    private static final int MIN_CAPACITY = 4;
+
+    private long[] table;
+    private int mask;
+    private int size;
+    private boolean containsZero; // 0은 빈 칸 표시로 쓰므로 따로 보관
+
+    public LongHashSet() {
+        this(8);
+    }
+
+    public LongHashSet(int expectedSize) {
+        int capacity = Integer.highestOneBit(Math.max(MIN_CAPACITY, expectedSize * 2 - 1)) << 1;
+        this.table = new long[capacity];
+        this.mask = capacity - 1;
+    }
+
+    public static LongHashSet of(Collection<Long> values) {
+        LongHashSet set = new LongHashSet(values.size());
+        for (Long value : values) {
+            if (value != null) {
+                set.add(value);
+            }
+        }
+        return set;
+    }
+
+    // 추가 (이미 있으면 false)
+    public boolean add(long value) {
+        if (value == EMPTY) {
+            if (containsZero) {
+                return false;
+            }
+            containsZero = true;
+            size++;
+            return true;
+        }
+
+        int index = indexFor(value);
+        while (table[index] != EMPTY) {
+            if (table[index] == value) {
+                return false;
+            }
+            index = (index + 1) & mask;
+        }
+        table[index] = value;
+        size++;
+
+        // 적재율 50% 초과 시 확장
+        if (size * 2 > table.length) {
+            resize();
+        }
+        return true;
+    }
+
+    public boolean contains(long value) {
+        if (value == EMPTY) {
+            return containsZero;
+        }
+
+        int index = indexFor(value);
+        while (table[index] != EMPTY) {
+            if (table[index] == value) {
+                return true;
+            }
+            index = (index + 1) & mask;
+        }
+        return false;
+    }
+
+    // null 은 포함되지 않은 것으로 처리
+    public boolean contains(Long value) {
+        return value != null && contains(value.longValue());
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    private int indexFor(long value) {
+        long hash = value * 0x9E3779B97F4A7C15L;
+        return (int) (hash ^ (hash >>> 32)) & mask;
+    }
+
+    private void resize() {
+        long[] oldTable = table;
+        table = new long[oldTable.length << 1];
+        mask = table.length - 1;
+        for (long value : oldTable) {
+            if (value != EMPTY) {
+                int index = indexFor(value);
+                while (table[index] != EMPTY) {
+                    index = (index + 1) & mask;
+                }
+                table[index] = value;
+            }
+        }
+    }
+}
@@ -0,0 +1,45 @@
+package com.rhkr8521.mapping.common.util;
+
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * 트랜잭션 관련 유틸
+ */
+public final class TransactionUtils {
+
+    private TransactionUtils() {
+    }
+
+    // 트랜잭션 안이면 커밋 이후, 아니면 즉시 실행
+    // - 캐시 무효화를 커밋 전에 하면 다른 요청이 커밋 전 데이터로 다시 캐시를 채울 수 있음
+    public static void runAfterCommit(Runnable action) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            action.run();
+            return;
+        }
+
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                action.run();
+            }
+        });
+    }
+
+    // 트랜잭션이 롤백되면 실행 (트랜잭션 밖이면 아무것도 하지 않음)
+    public static void runAfterRollback(Runnable action) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            return;
+        }
+
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(int status) {
+                if (status == STATUS_ROLLED_BACK) {
+                    action.run();
+                }
+            }
+        });
+    }
+}
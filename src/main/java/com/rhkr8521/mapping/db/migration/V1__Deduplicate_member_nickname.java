@@ -0,0 +1,34 @@
+package com.rhkr8521.mapping.db.migration;
+
+import org.flywaydb.core.api.migration.BaseJavaMigration;
+import org.flywaydb.core.api.migration.Context;
+import org.springframework.stereotype.Component;
+
+import java.sql.Statement;
+
+/**
+ * member.nickname 중복 정리 후 유니크 인덱스 추가
+ * - 같은 닉네임 중 가장 먼저 가입한 회원만 유지하고, 나머지는 닉네임 뒤에 "_회원ID" 를 붙여 구분
+ */
+@Component
+public class V1__Deduplicate_member_nickname extends BaseJavaMigration {
+
+    @Override
+    public void migrate(Context context) throws Exception {
+        if (!MigrationSupport.tableExists(context.getConnection(), "member")) {
+            return;
+        }
+
+        try (Statement statement = context.getConnection().createStatement()) {
+            statement.executeUpdate("UPDATE member m " +
+                    "JOIN (SELECT nickname, MIN(user_id) AS keep_id FROM member " +
+                    "WHERE nickname IS NOT NULL GROUP BY nickname HAVING COUNT(*) > 1) d " +
+                    "ON d.nickname = m.nickname " +
+                    "SET m.nickname = CONCAT(m.nickname, '_', m.user_id) " +
+                    "WHERE m.user_id <> d.keep_id");
+            if (!MigrationSupport.indexExists(context.getConnection(), "member", "uk_member_nickname")) {
+                statement.execute("CREATE UNIQUE INDEX uk_member_nickname ON member (nickname)");
+            }
+        }
+    }
+}
@@ -0,0 +1,108 @@
+package com.rhkr8521.mapping.db.migration;
+
+import com.auth0.jwt.JWT;
+import com.auth0.jwt.exceptions.JWTDecodeException;
+import com.rhkr8521.mapping.api.member.jwt.service.RefreshTokenService;
+import org.flywaydb.core.api.migration.BaseJavaMigration;
+import org.flywaydb.core.api.migration.Context;
+import org.springframework.stereotype.Component;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.Statement;
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.UUID;
+
+/**
+ * member.refresh_token 원문 토큰을 refresh_token 테이블(해시 저장)로 옮긴 뒤 컬럼 삭제
+ * - 기존 로그인이 끊기지 않도록 아직 만료되지 않은 토큰은 회원마다 새 family 로 옮김 (재발급 시 서명만 검증하므로 계속 사용 가능)
+ * - 마이그레이션은 JPA 보다 먼저 실행되므로 refresh_token 테이블이 없으면 엔티티와 같은 정의로 생성
+ */
+@Component
+public class V2__Migrate_member_refresh_token extends BaseJavaMigration {
+
+    @Override
+    public void migrate(Context context) throws Exception {
+        Connection connection = context.getConnection();
+        if (!MigrationSupport.columnExists(connection, "member", "refresh_token")) {
+            return;
+        }
+
+        createRefreshTokenTableIfAbsent(connection);
+
+        LocalDateTime now = LocalDateTime.now();
+        int migrated = 0;
+        try (Statement select = connection.createStatement();
+             ResultSet rows = select.executeQuery(
+                     "SELECT user_id, refresh_token FROM member WHERE refresh_token IS NOT NULL AND deleted = false");
+             PreparedStatement insert = connection.prepareStatement(
+                     "INSERT IGNORE INTO refresh_token " +
+                             "(token_hash, family_id, user_id, expires_at, used, revoked, created_at, updated_at) " +
+                             "VALUES (?, ?, ?, ?, false, false, ?, ?)")) {
+            while (rows.next()) {
+                String token = rows.getString("refresh_token");
+                LocalDateTime expiresAt = expiresAt(token);
+                // 형식이 잘못되었거나 이미 만료된 토큰은 옮기지 않음
+                if (expiresAt == null || !expiresAt.isAfter(now)) {
+                    continue;
+                }
+
+                insert.setString(1, RefreshTokenService.hash(token));
+                insert.setString(2, UUID.randomUUID().toString());
+                insert.setLong(3, rows.getLong("user_id"));
+                insert.setTimestamp(4, Timestamp.valueOf(expiresAt));
+                insert.setTimestamp(5, Timestamp.valueOf(now));
+                insert.setTimestamp(6, Timestamp.valueOf(now));
+                insert.addBatch();
+                if (++migrated % 500 == 0) {
+                    insert.executeBatch();
+                }
+            }
+            insert.executeBatch();
+        }
+
+        try (Statement statement = connection.createStatement()) {
+            statement.execute("ALTER TABLE member DROP COLUMN refresh_token");
+        }
+    }
+
+    // 서명은 재발급 시 검증하므로 여기서는 만료 시각만 읽음
+    private static LocalDateTime expiresAt(String token) {
+        try {
+            Instant expiresAt = JWT.decode(token).getExpiresAtAsInstant();
+            return expiresAt == null ? null : LocalDateTime.ofInstant(expiresAt, ZoneId.systemDefault());
+        } catch (JWTDecodeException e) {
+            return null;
+        }
+    }
+
+    // RefreshToken 엔티티와 같은 정의
+    private static void createRefreshTokenTableIfAbsent(Connection connection) throws Exception {
+        if (MigrationSupport.tableExists(connection, "refresh_token")) {
+            return;
+        }
+
+        try (Statement statement = connection.createStatement()) {
+            statement.execute("CREATE TABLE refresh_token (" +
+                    "refresh_token_id BIGINT NOT NULL AUTO_INCREMENT, " +
+                    "created_at DATETIME(6), " +
+                    "updated_at DATETIME(6), " +
+                    "token_hash VARCHAR(64) NOT NULL, " +
+                    "family_id VARCHAR(36) NOT NULL, " +
+                    "user_id BIGINT NOT NULL, " +
+                    "expires_at DATETIME(6) NOT NULL, " +
+                    "used BIT NOT NULL, " +
+                    "revoked BIT NOT NULL, " +
+                    "PRIMARY KEY (refresh_token_id), " +
+                    "CONSTRAINT uk_refresh_token_hash UNIQUE (token_hash), " +
+                    "INDEX idx_refresh_token_family (family_id), " +
+                    "INDEX idx_refresh_token_user (user_id), " +
+                    "INDEX idx_refresh_token_expires (expires_at)" +
+                    ") ENGINE=InnoDB");
+        }
+    }
+}
@@ -0,0 +1,60 @@
+package com.rhkr8521.mapping.scheduler;
+
+import com.rhkr8521.mapping.api.member.jwt.service.AccessTokenRevocationService;
+import com.rhkr8521.mapping.api.member.repository.MemberTokenRevocationRepository;
+import com.rhkr8521.mapping.api.member.repository.RevokedAccessTokenRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class AccessTokenRevocationScheduler {
+
+    private final AccessTokenRevocationService accessTokenRevocationService;
+    private final RevokedAccessTokenRepository revokedAccessTokenRepository;
+    private final MemberTokenRevocationRepository memberTokenRevocationRepository;
+    private final TransactionTemplate transactionTemplate;
+
+    @Value("${jwt.revocation.cleanup.batch-size:1000}")
+    private int batchSize;
+
+    // 폐기 목록 재구성 (기본 30초 주기, 다른 인스턴스에서 폐기한 토큰 반영)
+    @Scheduled(initialDelay = 0, fixedDelayString = "${jwt.revocation.rebuild-interval-ms:30000}")
+    public void rebuildRevocationList() {
+        try {
+            accessTokenRevocationService.rebuild();
+        } catch (Exception e) {
+            // 실패해도 기존 목록을 그대로 사용하고 다음 주기에 다시 시도
+            log.warn("Access Token 폐기 목록 재구성 실패: {}", e.getMessage());
+        }
+    }
+
+    // 매시 40분에 원래 만료 시각이 지난 폐기 기록 삭제 (배치마다 별도 트랜잭션)
+    @Scheduled(cron = "0 40 * * * *")
+    public void deleteExpiredRevocations() {
+        LocalDateTime now = LocalDateTime.now();
+        int total = 0;
+        Integer deleted;
+        do {
+            deleted = transactionTemplate.execute(status -> revokedAccessTokenRepository.deleteExpiredBatch(now, batchSize));
+            total += deleted == null ? 0 : deleted;
+        } while (deleted != null && deleted == batchSize);
+
+        // 회원 단위 폐기 기록도 같은 방식으로 삭제
+        do {
+            deleted = transactionTemplate.execute(status -> memberTokenRevocationRepository.deleteExpiredBatch(now, batchSize));
+            total += deleted == null ? 0 : deleted;
+        } while (deleted != null && deleted == batchSize);
+
+        if (total > 0) {
+            log.info("만료된 Access Token 폐기 기록 {}건 삭제", total);
+        }
+    }
+}
@@ -0,0 +1,26 @@
+package com.rhkr8521.mapping.scheduler;
+
+import com.rhkr8521.mapping.api.member.service.AppleClientSecretProvider;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class AppleClientSecretScheduler {
+
+    private final AppleClientSecretProvider appleClientSecretProvider;
+
+    // 1분마다 만료가 가까운 Apple client secret 을 로그인 요청 전에 미리 재발급
+    @Scheduled(fixedDelayString = "${social-login.provider.apple.client-secret.refresh-interval-ms:60000}")
+    public void refreshClientSecret() {
+        try {
+            appleClientSecretProvider.refreshIfExpiringSoon();
+        } catch (Exception e) {
+            // 실패해도 기존 값이 만료 전까지 유효하고, 요청 시점에 다시 발급 시도
+            log.warn("Apple client secret 재발급 실패: {}", e.getMessage());
+        }
+    }
+}
@@ -0,0 +1,78 @@
+package com.rhkr8521.mapping.scheduler;
+
+import com.rhkr8521.mapping.api.memo.entity.BatchJobCheckpoint;
+import com.rhkr8521.mapping.api.memo.repository.BatchJobCheckpointRepository;
+import com.rhkr8521.mapping.api.memo.repository.MemberActivityRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.function.BiFunction;
+
+/**
+ * 기존 댓글/좋아요로 member_activity 읽기 모델 초기 적재
+ * - 원본 테이블 ID 구간마다 별도 트랜잭션으로 처리하고 진행 위치를 작업 행에 기록해 중단되어도 이어서 처리
+ * - 작업 행 잠금으로 여러 인스턴스가 같은 구간을 중복 처리하지 않음
+ * - 한 번 완료되면 다시 실행하지 않음 (이후 활동은 서비스에서 바로 기록)
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class MemberActivityBackfillScheduler {
+
+    private static final String COMMENTED_JOB = "member-activity-commented";
+    private static final String LIKED_JOB = "member-activity-liked";
+
+    private final MemberActivityRepository memberActivityRepository;
+    private final BatchJobCheckpointRepository checkpointRepository;
+    private final TransactionTemplate transactionTemplate;
+
+    @Value("${member.activity.backfill.batch-size:1000}")
+    private int batchSize;
+
+    @Scheduled(initialDelayString = "${member.activity.backfill.initial-delay-ms:30000}",
+            fixedDelayString = "${member.activity.backfill.interval-ms:600000}")
+    public void backfill() {
+        backfill(COMMENTED_JOB, memberActivityRepository::findCommentIdRangeUpperBound, memberActivityRepository::backfillCommented);
+        backfill(LIKED_JOB, memberActivityRepository::findLikeIdRangeUpperBound, memberActivityRepository::backfillLiked);
+    }
+
+    private void backfill(String jobName,
+                          BiFunction<Long, Integer, Long> upperBoundFinder,
+                          BiFunction<Long, Long, Integer> rangeLoader) {
+        int total = 0;
+        Integer loaded;
+        while ((loaded = transactionTemplate.execute(status -> loadNextRange(jobName, upperBoundFinder, rangeLoader))) != null) {
+            total += loaded;
+        }
+
+        if (total > 0) {
+            log.info("회원 활동 읽기 모델 적재 ({}): {}건", jobName, total);
+        }
+    }
+
+    // 다음 구간 적재 후 적재한 행 수 반환 (이미 완료됐거나 남은 구간이 없으면 null)
+    private Integer loadNextRange(String jobName,
+                                  BiFunction<Long, Integer, Long> upperBoundFinder,
+                                  BiFunction<Long, Long, Integer> rangeLoader) {
+        checkpointRepository.createIfAbsent(jobName);
+        BatchJobCheckpoint checkpoint = checkpointRepository.findForUpdate(jobName).orElseThrow();
+        if (checkpoint.getCompletedAt() != null) {
+            return null;
+        }
+
+        Long upperBound = upperBoundFinder.apply(checkpoint.getLastId(), batchSize);
+        if (upperBound == null) {
+            checkpointRepository.save(checkpoint.complete(LocalDateTime.now()));
+            return null;
+        }
+
+        int loaded = rangeLoader.apply(checkpoint.getLastId(), upperBound);
+        checkpointRepository.save(checkpoint.advanceTo(upperBound));
+        return loaded;
+    }
+}
@@ -4,10 +4,17 @@ import com.rhkr8521.mapping.api.aws.s3.S3Service;
 import com.rhkr8521.mapping.api.comment.entity.Comment;
 import com.rhkr8521.mapping.api.comment.repository.CommentLikeRepository;
 import com.rhkr8521.mapping.api.comment.repository.CommentRepository;
+import com.rhkr8521.mapping.api.member.cache.BlockSetCache;
+import com.rhkr8521.mapping.api.member.cache.MemberProfileCache;
 import com.rhkr8521.mapping.api.member.entity.Member;
 import com.rhkr8521.mapping.api.member.repository.MemberBlockRepository;
 import com.rhkr8521.mapping.api.member.repository.MemberRepository;
+import com.rhkr8521.mapping.api.member.repository.RefreshTokenRepository;
+import com.rhkr8521.mapping.api.member.service.NicknameAllocator;
 import com.rhkr8521.mapping.api.memo.entity.Memo;
+import com.rhkr8521.mapping.api.memo.repository.MemberActivityRepository;
+import com.rhkr8521.mapping.api.memo.repository.MemoCounterShardRepository;
+import com.rhkr8521.mapping.api.memo.repository.ReactionEventRepository;
 import com.rhkr8521.mapping.api.memo.repository.MemoHateRepository;
 import com.rhkr8521.mapping.api.memo.repository.MemoLikeRepository;
 import com.rhkr8521.mapping.api.report.repository.CommentReportRepository;
@@ -31,9 +38,16 @@ public class MemberDataCleanupScheduler {
     private final CommentLikeRepository commentLikeRepository;
     private final MemoLikeRepository memoLikeRepository;
     private final MemoHateRepository memoHateRepository;
+    private final MemoCounterShardRepository memoCounterShardRepository;
+    private final ReactionEventRepository reactionEventRepository;
+    private final MemberActivityRepository memberActivityRepository;
+    private final RefreshTokenRepository refreshTokenRepository;
     private final MemoReportRepository memoReportRepository;
     private final S3Service s3Service;
     private final MemberBlockRepository memberBlockRepository;
+    private final BlockSetCache blockSetCache;
+    private final NicknameAllocator nicknameAllocator;
+    private final MemberProfileCache memberProfileCache;
     private final CommentReportRepository commentReportRepository;
 
     // 매일 자정에 실행 (cron 표현식: "0 0 0 * * *")
@@ -58,10 +72,13 @@ public class MemberDataCleanupScheduler {
                     memo.getImages().forEach(image -> s3Service.deleteFile(image.getImageUrl()));
                 }
 
-                // 1-2. 메모에 연관된 좋아요, 싫어요, 신고 삭제
+                // 1-2. 메모에 연관된 좋아요, 싫어요, 신고, 카운터 슬롯, 반응 이벤트, 활동 기록 삭제
                 memoLikeRepository.deleteAllByMemoId(memoId);
                 memoHateRepository.deleteAllByMemoId(memoId);
                 memoReportRepository.deleteAllByMemoId(memoId);
+                memoCounterShardRepository.deleteAllByMemoId(memoId);
+                reactionEventRepository.deleteAllByMemoId(memoId);
+                memberActivityRepository.deleteAllByMemoId(memoId);
 
                 // 1-3. 해당 메모의 댓글(및 댓글 좋아요) 삭제
                 List<Comment> commentsForMemo = commentRepository.findByMemoId(memoId);
@@ -81,6 +98,11 @@ public class MemberDataCleanupScheduler {
             // 2. 해당 회원이 작성한 댓글 조회 및 삭제
             List<Comment> comments = commentRepository.findByMemberId(memberId);
             for (Comment comment : comments) {
+                // 다른 회원 메모의 댓글 수/별점 집계에서 제외
+                if (!comment.isDeleted()) {
+                    memoRepository.adjustCommentStats(comment.getMemo().getId(), -1,
+                            -Math.max(comment.getRating(), 0), comment.getRating() > 0 ? -1 : 0);
+                }
                 // 댓글 좋아요 삭제
                 commentLikeRepository.deleteAllByCommentId(comment.getId());
                 // 댓글 신고 삭제
@@ -89,6 +111,11 @@ public class MemberDataCleanupScheduler {
                 commentRepository.delete(comment);
             }
 
+            // 2-1. 해당 회원의 반응 이벤트, 활동 기록 삭제
+            reactionEventRepository.deleteAllByUserId(memberId);
+            memberActivityRepository.deleteAllByUserId(memberId);
+            refreshTokenRepository.deleteAllByUserId(memberId);
+
             // 3. 해당 회원과 관련된 블록 정보(MemberBlock) 삭제
             memberBlockRepository.deleteAllByBlockerIdOrBlockedId(memberId, memberId);
 
@@ -99,6 +126,13 @@ public class MemberDataCleanupScheduler {
 
             // 4. 최종적으로 회원 자체 삭제
             memberRepository.delete(member);
+            nicknameAllocator.release(member.getNickname());
+            memberProfileCache.evict(memberId);
+        }
+
+        // 삭제된 회원이 포함된 차단 목록 캐시 정리
+        if (!membersToDelete.isEmpty()) {
+            blockSetCache.evictAll();
         }
     }
 }
\ No newline at end of file
@@ -0,0 +1,66 @@
+package com.rhkr8521.mapping.scheduler;
+
+import com.rhkr8521.mapping.api.memo.entity.BatchJobCheckpoint;
+import com.rhkr8521.mapping.api.memo.repository.BatchJobCheckpointRepository;
+import com.rhkr8521.mapping.api.memo.repository.MemoRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class MemoCommentStatsScheduler {
+
+    private static final String JOB_NAME = "memo-comment-stats";
+
+    private final MemoRepository memoRepository;
+    private final BatchJobCheckpointRepository checkpointRepository;
+    private final TransactionTemplate transactionTemplate;
+
+    @Value("${memo.comment-stats.reconcile.batch-size:1000}")
+    private int batchSize;
+
+    // 매일 새벽 4시에 댓글 테이블 기준으로 메모 댓글 수/별점 집계 보정 (회원 데이터 정리 이후 실행)
+    // - 메모 ID 구간마다 별도 트랜잭션으로 처리해 테이블 전체를 한 번에 잠그지 않음
+    // - 여러 인스턴스가 동시에 실행해도 작업 행 잠금으로 구간을 나누어 한 번만 처리
+    @Scheduled(cron = "0 0 4 * * *")
+    public void reconcileCommentStats() {
+        LocalDateTime runStartedAt = LocalDateTime.now();
+        int total = 0;
+        Integer corrected;
+        while ((corrected = transactionTemplate.execute(status -> reconcileNextRange(runStartedAt))) != null) {
+            total += corrected;
+        }
+
+        if (total > 0) {
+            log.info("메모 댓글 집계 보정: {}건", total);
+        }
+    }
+
+    // 다음 구간 보정 후 보정한 메모 수 반환 (이번 실행이 끝났으면 null)
+    private Integer reconcileNextRange(LocalDateTime runStartedAt) {
+        checkpointRepository.createIfAbsent(JOB_NAME);
+        BatchJobCheckpoint checkpoint = checkpointRepository.findForUpdate(JOB_NAME).orElseThrow();
+
+        // 다른 인스턴스가 이번 보정을 이미 끝낸 경우
+        if (checkpoint.getCompletedAt() != null && checkpoint.getCompletedAt().isAfter(runStartedAt.minusHours(1))) {
+            return null;
+        }
+
+        Long upperBound = memoRepository.findIdRangeUpperBound(checkpoint.getLastId(), batchSize);
+        if (upperBound == null) {
+            checkpointRepository.save(checkpoint.complete(LocalDateTime.now()));
+            return null;
+        }
+
+        int corrected = memoRepository.reconcileCommentStats(checkpoint.getLastId(), upperBound);
+        checkpointRepository.save(checkpoint.advanceTo(upperBound));
+        return corrected;
+    }
+}
@@ -0,0 +1,32 @@
+package com.rhkr8521.mapping.scheduler;
+
+import com.rhkr8521.mapping.api.memo.service.MemoCounterService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+@Service
+@RequiredArgsConstructor
+public class MemoCounterShardScheduler {
+
+    private final MemoCounterService memoCounterService;
+
+    // 샤딩 카운터 슬롯 합계를 memo 좋아요/싫어요 수에 반영 (기본 5초 주기)
+    @Scheduled(fixedDelayString = "${memo.counter.shard.materialize-interval-ms:5000}")
+    public void materializeShardedCounts() {
+        memoCounterService.materializeShardedCounts();
+    }
+
+    // 시작 시와 주기적으로(기본 10분) 샤딩 카운터 메모 전체를 합산 대상으로 표시
+    // (재시작이나 다른 인스턴스 종료로 합산되지 않은 슬롯 반영)
+    @Scheduled(initialDelay = 0, fixedDelayString = "${memo.counter.shard.sweep-interval-ms:600000}")
+    public void markAllShardedDirty() {
+        memoCounterService.markAllShardedDirty();
+    }
+
+    // 매분 오래된 반응 집계 윈도우 정리
+    @Scheduled(fixedDelay = 60_000L)
+    public void evictIdleReactionWindows() {
+        memoCounterService.evictIdleWindows();
+    }
+}
@@ -0,0 +1,28 @@
+package com.rhkr8521.mapping.scheduler;
+
+import com.rhkr8521.mapping.api.member.service.OAuthUnlinkService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class OAuthUnlinkScheduler {
+
+    private final OAuthUnlinkService oAuthUnlinkService;
+
+    @Value("${oauth.unlink.batch-size:50}")
+    private int batchSize;
+
+    // 탈퇴 회원의 소셜 연결 해제 작업 처리 (한 번에 batchSize 개까지, 가득 차면 이어서 처리)
+    @Scheduled(fixedDelayString = "${oauth.unlink.poll-interval-ms:10000}")
+    public void processUnlinkTasks() {
+        int processed;
+        do {
+            processed = oAuthUnlinkService.processDueTasks();
+        } while (processed == batchSize);
+    }
+}
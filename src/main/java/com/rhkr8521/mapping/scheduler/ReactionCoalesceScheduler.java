@@ -0,0 +1,31 @@
+package com.rhkr8521.mapping.scheduler;
+
+import com.rhkr8521.mapping.api.memo.service.MemoReactionCoalescer;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class ReactionCoalesceScheduler {
+
+    private final MemoReactionCoalescer memoReactionCoalescer;
+
+    // 윈도우가 지난 반응 토글을 이벤트 로그에 반영 (기본 0.1초 주기)
+    @Scheduled(fixedDelayString = "${memo.reaction.coalesce-flush-interval-ms:100}")
+    public void flushCoalescedReactions() {
+        try {
+            memoReactionCoalescer.flushDue();
+        } catch (Exception e) {
+            log.warn("반응 토글 반영 실패: {}", e.getMessage());
+        }
+    }
+
+    // 오래된 최근 반응 상태 정리 (1분 주기)
+    @Scheduled(fixedRate = 60000)
+    public void evictKnownStates() {
+        memoReactionCoalescer.evictKnownStates();
+    }
+}
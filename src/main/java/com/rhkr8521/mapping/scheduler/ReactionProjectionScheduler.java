@@ -0,0 +1,33 @@
+package com.rhkr8521.mapping.scheduler;
+
+import com.rhkr8521.mapping.api.memo.service.MemoReactionProjector;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class ReactionProjectionScheduler {
+
+    private final MemoReactionProjector memoReactionProjector;
+
+    @Value("${memo.reaction.projection.batch-size:500}")
+    private int batchSize;
+
+    // 반응 이벤트 로그를 반응 테이블과 카운트에 반영 (기본 0.5초 주기, 밀린 이벤트는 한 번에 모두 처리)
+    @Scheduled(fixedDelayString = "${memo.reaction.projection.interval-ms:500}")
+    public void projectReactionEvents() {
+        try {
+            int projected;
+            do {
+                projected = memoReactionProjector.projectNextBatch();
+            } while (projected == batchSize);
+        } catch (Exception e) {
+            // 다른 인스턴스와 체크포인트 생성이 겹친 경우 등은 다음 주기에 다시 시도
+            log.warn("반응 이벤트 반영 실패: {}", e.getMessage());
+        }
+    }
+}
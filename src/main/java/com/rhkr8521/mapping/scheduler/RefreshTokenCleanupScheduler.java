@@ -0,0 +1,39 @@
+package com.rhkr8521.mapping.scheduler;
+
+import com.rhkr8521.mapping.api.member.repository.RefreshTokenRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class RefreshTokenCleanupScheduler {
+
+    private final RefreshTokenRepository refreshTokenRepository;
+    private final TransactionTemplate transactionTemplate;
+
+    @Value("${jwt.refresh.cleanup.batch-size:1000}")
+    private int batchSize;
+
+    // 매시 30분에 만료된 리프레시 토큰 삭제 (배치마다 별도 트랜잭션)
+    @Scheduled(cron = "0 30 * * * *")
+    public void deleteExpiredRefreshTokens() {
+        LocalDateTime now = LocalDateTime.now();
+        int total = 0;
+        Integer deleted;
+        do {
+            deleted = transactionTemplate.execute(status -> refreshTokenRepository.deleteExpiredBatch(now, batchSize));
+            total += deleted == null ? 0 : deleted;
+        } while (deleted != null && deleted == batchSize);
+
+        if (total > 0) {
+            log.info("만료된 리프레시 토큰 {}건 삭제", total);
+        }
+    }
+}
@@ -1,29 +1,32 @@
 package com.rhkr8521.mapping.slack;
 
-import lombok.RequiredArgsConstructor;
+import com.rhkr8521.mapping.common.config.http.OutboundRestTemplateFactory;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.http.HttpEntity;
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
-import org.springframework.http.client.SimpleClientHttpRequestFactory;
 import org.springframework.stereotype.Service;
 import org.springframework.web.client.RestTemplate;
 
 @Slf4j
 @Service
-@RequiredArgsConstructor
 public class SlackNotificationService {
 
     @Value("${slack.webhook.url}")
     private String slackWebhookUrl;
 
+    private final RestTemplate restTemplate;
+
+    public SlackNotificationService(OutboundRestTemplateFactory restTemplateFactory) {
+        this.restTemplate = restTemplateFactory.create("slack");
+    }
+
     /**
      * 슬랙에 간단한 텍스트 메시지를 보내는 메서드
      */
     public void sendSlackMessage(String message) {
         try {
-            RestTemplate restTemplate = new RestTemplate(getClientHttpRequestFactory());
             HttpHeaders headers = new HttpHeaders();
             headers.setContentType(MediaType.APPLICATION_JSON);
 
@@ -38,14 +41,6 @@ public class SlackNotificationService {
         }
     }
 
-    private SimpleClientHttpRequestFactory getClientHttpRequestFactory() {
-        SimpleClientHttpRequestFactory factory = new SimpleClientHttpRequestFactory();
-        // 필요하다면 타임아웃 설정
-        factory.setConnectTimeout(3000);
-        factory.setReadTimeout(3000);
-        return factory;
-    }
-
     /**
      * 회원가입 알림
      * 예) "[회원] 1번째 사용자가 가입하였습니다."